@@ -0,0 +1,78 @@
+package data;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+final class AllocationEvent {
+
+    private static final String[] FIELDS = {"kind", "operation", "callSite"};
+    private static final String[] LABELS = {"Kind", "Operation", "Call Site"};
+
+    private static final Object FACTORY;
+    private static final Method NEW_EVENT;
+    private static final Method IS_ENABLED;
+    private static final Method SET;
+    private static final Method COMMIT;
+
+    static {
+        Object factory = null;
+        Method newEvent = null;
+        Method isEnabled = null;
+        Method set = null;
+        Method commit = null;
+        try {
+            final Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement");
+            final Class<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor");
+            final Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory");
+            final Class<?> event = Class.forName("jdk.jfr.Event");
+            final Constructor<?> annotation = annotationElement.getConstructor(Class.class, Object.class);
+            final Constructor<?> field = valueDescriptor.getConstructor(Class.class, String.class, List.class);
+            final Class<?> label = Class.forName("jdk.jfr.Label");
+            final List<Object> annotations = Arrays.asList(
+                    annotation.newInstance(Class.forName("jdk.jfr.Name"), "data.Allocation"),
+                    annotation.newInstance(label, "Data Allocation"),
+                    annotation.newInstance(Class.forName("jdk.jfr.Category"), new String[]{"data"}),
+                    annotation.newInstance(Class.forName("jdk.jfr.StackTrace"), false));
+            final Object[] fields = new Object[FIELDS.length];
+            for (int index = 0; index < FIELDS.length; index++) {
+                fields[index] = field.newInstance(String.class, FIELDS[index], Collections.singletonList(annotation.newInstance(label, LABELS[index])));
+            }
+            factory = eventFactory.getMethod("create", List.class, List.class).invoke(null, annotations, Arrays.asList(fields));
+            newEvent = eventFactory.getMethod("newEvent");
+            isEnabled = event.getMethod("isEnabled");
+            set = event.getMethod("set", int.class, Object.class);
+            commit = event.getMethod("commit");
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException unavailable) {
+            factory = null;
+        }
+        FACTORY = factory;
+        NEW_EVENT = newEvent;
+        IS_ENABLED = isEnabled;
+        SET = set;
+        COMMIT = commit;
+    }
+
+    private AllocationEvent() {
+    }
+
+    static boolean available() {
+        return FACTORY != null;
+    }
+
+    static void emit(String kind, String operation, String callSite) throws ReflectiveOperationException {
+        if (FACTORY == null) {
+            return;
+        }
+        final Object event = NEW_EVENT.invoke(FACTORY);
+        if (!(Boolean) IS_ENABLED.invoke(event)) {
+            return;
+        }
+        SET.invoke(event, 0, kind);
+        SET.invoke(event, 1, operation);
+        SET.invoke(event, 2, callSite);
+        COMMIT.invoke(event);
+    }
+}
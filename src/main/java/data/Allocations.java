@@ -0,0 +1,99 @@
+package data;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class Allocations {
+
+    public enum Kind {
+        JUST, LEFT, RIGHT, PAIR
+    }
+
+    static final boolean ENABLED = Boolean.getBoolean("data.allocations");
+
+    private Allocations() {
+    }
+
+    public static boolean enabled() {
+        return ENABLED;
+    }
+
+    public static long count(Kind kind) {
+        return Counters.COUNTS[kind.ordinal()].sum();
+    }
+
+    public static Map<String, Long> sampledCallSites() {
+        final Map<String, Long> snapshot = new HashMap<>();
+        Counters.CALL_SITES.forEach((site, count) -> snapshot.put(site, count.sum()));
+        return snapshot;
+    }
+
+    public static void reset() {
+        for (LongAdder count : Counters.COUNTS) {
+            count.reset();
+        }
+        Counters.CALL_SITES.clear();
+    }
+
+    static void record(Kind kind) {
+        Counters.COUNTS[kind.ordinal()].increment();
+        if (Counters.SAMPLE_INTERVAL == 1 || ThreadLocalRandom.current().nextInt(Counters.SAMPLE_INTERVAL) == 0) {
+            sample(kind);
+        }
+    }
+
+    static void sample(Kind kind) {
+        final StackTraceElement[] frames = new Throwable().getStackTrace();
+        String operation = "";
+        String site = "";
+        for (StackTraceElement frame : frames) {
+            if (isLibraryFrame(frame.getClassName())) {
+                operation = frame.getMethodName();
+            } else {
+                site = frame.getClassName() + '.' + frame.getMethodName() + ':' + frame.getLineNumber();
+                break;
+            }
+        }
+        Counters.CALL_SITES.computeIfAbsent(kind + " " + operation + " " + site, key -> new LongAdder()).increment();
+        if (ENABLED && FlightRecorder.available) {
+            try {
+                AllocationEvent.emit(kind.name(), operation, site);
+            } catch (ReflectiveOperationException | LinkageError unavailable) {
+                FlightRecorder.available = false;
+            }
+        }
+    }
+
+    private static boolean isLibraryFrame(String className) {
+        return isClassOrNested(className, "data.Allocations")
+                || isClassOrNested(className, "data.Maybe")
+                || isClassOrNested(className, "data.Either")
+                || isClassOrNested(className, "data.Pair");
+    }
+
+    private static boolean isClassOrNested(String className, String owner) {
+        return className.startsWith(owner) && (className.length() == owner.length() || className.charAt(owner.length()) == '$');
+    }
+
+    private static final class Counters {
+
+        private static final int SAMPLE_INTERVAL = Math.max(1, Integer.getInteger("data.allocations.sampleInterval", 1024));
+        private static final LongAdder[] COUNTS = new LongAdder[Kind.values().length];
+        private static final ConcurrentMap<String, LongAdder> CALL_SITES = new ConcurrentHashMap<>();
+
+        static {
+            for (int index = 0; index < COUNTS.length; index++) {
+                COUNTS[index] = new LongAdder();
+            }
+        }
+    }
+
+    private static final class FlightRecorder {
+
+        private static volatile boolean available = AllocationEvent.available();
+    }
+}
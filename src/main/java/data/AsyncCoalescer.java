@@ -0,0 +1,48 @@
+package data;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+final class AsyncCoalescer<K, T> implements Function<K, CompletableFuture<T>> {
+
+    private final ConcurrentMap<K, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+    private final Function<? super K, ? extends CompletionStage<? extends T>> loader;
+
+    AsyncCoalescer(Function<? super K, ? extends CompletionStage<? extends T>> loader) {
+        this.loader = loader;
+    }
+
+    @Override
+    public CompletableFuture<T> apply(K key) {
+        final CompletableFuture<T> existing = inFlight.get(key);
+        if (existing != null) {
+            return existing.thenApply(Function.identity());
+        }
+        final CompletableFuture<T> flight = new CompletableFuture<>();
+        final CompletableFuture<T> raced = inFlight.putIfAbsent(key, flight);
+        if (raced != null) {
+            return raced.thenApply(Function.identity());
+        }
+        try {
+            loader.apply(key).whenComplete((result, failure) -> {
+                inFlight.remove(key, flight);
+                if (failure != null) {
+                    flight.completeExceptionally(failure);
+                } else {
+                    flight.complete(result);
+                }
+            });
+        } catch (RuntimeException | Error failure) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(failure);
+        }
+        return flight.thenApply(Function.identity());
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,142 @@
+package data;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class Bulkhead {
+
+    public enum Rejection {
+        QUEUE_FULL, TIMEOUT, INTERRUPTED
+    }
+
+    private static final double DECREASE = 0.9;
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWait;
+    private final long targetLatency;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private double limit;
+    private int running;
+    private int queued;
+
+    private Bulkhead(int maxConcurrent, int maxQueued, long maxWait, long targetLatency) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be positive");
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("maxQueued must not be negative");
+        }
+        if (maxWait < 0) {
+            throw new IllegalArgumentException("maxWait must not be negative");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWait = maxWait;
+        this.targetLatency = targetLatency;
+        this.limit = maxConcurrent;
+    }
+
+    public static Bulkhead of(int maxConcurrent, int maxQueued, long maxWait, TimeUnit unit) {
+        return new Bulkhead(maxConcurrent, maxQueued, unit.toNanos(maxWait), Long.MAX_VALUE);
+    }
+
+    public static Bulkhead adaptive(int maxConcurrent, int maxQueued, long maxWait, long targetLatency, TimeUnit unit) {
+        return new Bulkhead(maxConcurrent, maxQueued, unit.toNanos(maxWait), unit.toNanos(targetLatency));
+    }
+
+    public <L, R> Either<L, R> execute(Supplier<? extends Either<? extends L, ? extends R>> task, Function<? super Rejection, ? extends L> onRejection) {
+        final Rejection rejection = acquire();
+        if (rejection != null) {
+            return Either.left(onRejection.apply(rejection));
+        }
+        final long start = System.nanoTime();
+        try {
+            return Either.narrow(task.get());
+        } finally {
+            release(System.nanoTime() - start);
+        }
+    }
+
+    public int limit() {
+        lock.lock();
+        try {
+            return permits();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int running() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int queued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Rejection acquire() {
+        lock.lock();
+        try {
+            if (running < permits()) {
+                running++;
+                return null;
+            }
+            if (queued >= maxQueued) {
+                return Rejection.QUEUE_FULL;
+            }
+            queued++;
+            try {
+                long remaining = maxWait;
+                while (running >= permits()) {
+                    if (remaining <= 0) {
+                        return Rejection.TIMEOUT;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                running++;
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Rejection.INTERRUPTED;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long latency) {
+        lock.lock();
+        try {
+            running--;
+            if (latency > targetLatency) {
+                limit = Math.max(1, limit * DECREASE);
+            } else {
+                limit = Math.min(maxConcurrent, limit + 1 / limit);
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int permits() {
+        return (int) limit;
+    }
+}
@@ -0,0 +1,107 @@
+package data;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+final class Cache<K, V> {
+
+    private static final int SEGMENT_THRESHOLD = 64;
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long ttl;
+    private final LongSupplier clock;
+
+    @SuppressWarnings("unchecked")
+    Cache(int capacity, long ttl, LongSupplier clock) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+        if (ttl < 0) {
+            throw new IllegalArgumentException("ttl must not be negative");
+        }
+        final int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, capacity / SEGMENT_THRESHOLD)));
+        this.segments = new Segment[count];
+        for (int index = 0; index < count; index++) {
+            segments[index] = new Segment<>(capacity / count + (index < capacity % count ? 1 : 0));
+        }
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    V get(K key) {
+        return segmentFor(key).get(key, clock.getAsLong(), ttl);
+    }
+
+    void put(K key, V value) {
+        segmentFor(key).put(key, value, clock.getAsLong(), ttl);
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        final int hash = key == null ? 0 : key.hashCode();
+        return segments[(hash ^ hash >>> 16) & segments.length - 1];
+    }
+
+    private static final class Segment<K, V> {
+
+        private final int capacity;
+        private final LinkedHashMap<K, Entry<V>> entries;
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        private synchronized V get(K key, long now, long ttl) {
+            final Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now - entry.created >= ttl) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        private synchronized void put(K key, V value, long now, long ttl) {
+            if (capacity == 0 || ttl == 0) {
+                return;
+            }
+            entries.put(key, new Entry<>(value, now));
+            if (entries.size() > capacity) {
+                final Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long created;
+
+        private Entry(V value, long created) {
+            this.value = value;
+            this.created = created;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package data;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+final class Coalescer<K, T> implements Function<K, T> {
+
+    private final ConcurrentMap<K, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+    private final Function<? super K, ? extends T> loader;
+
+    Coalescer(Function<? super K, ? extends T> loader) {
+        this.loader = loader;
+    }
+
+    @Override
+    public T apply(K key) {
+        final CompletableFuture<T> existing = inFlight.get(key);
+        if (existing != null) {
+            return await(existing);
+        }
+        final CompletableFuture<T> flight = new CompletableFuture<>();
+        final CompletableFuture<T> raced = inFlight.putIfAbsent(key, flight);
+        if (raced != null) {
+            return await(raced);
+        }
+        final T result;
+        try {
+            result = loader.apply(key);
+        } catch (RuntimeException | Error failure) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(failure);
+            throw failure;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <T> T await(CompletableFuture<T> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException failure) {
+            final Throwable cause = failure.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package data;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+public final class DictionaryPairList<L, R> extends AbstractList<Pair<L, R>> implements RandomAccess {
+
+    private final Map<L, Integer> codes = new HashMap<>();
+    private final List<L> dictionary = new ArrayList<>();
+    private int[] leftCodes;
+    private Object[] rights;
+    private int size;
+
+    public DictionaryPairList() {
+        this(16);
+    }
+
+    public DictionaryPairList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+        this.leftCodes = new int[capacity];
+        this.rights = new Object[capacity];
+    }
+
+    @Override
+    public boolean add(Pair<L, R> pair) {
+        add(pair.left(), pair.right());
+        return true;
+    }
+
+    public void add(L left, R right) {
+        Integer code = codes.get(left);
+        if (code == null) {
+            code = dictionary.size();
+            codes.put(left, code);
+            dictionary.add(left);
+        }
+        if (size == leftCodes.length) {
+            final int capacity = Math.max(16, size * 2);
+            leftCodes = Arrays.copyOf(leftCodes, capacity);
+            rights = Arrays.copyOf(rights, capacity);
+        }
+        leftCodes[size] = code;
+        rights[size] = right;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Pair<L, R> get(int index) {
+        return Pair.of(dictionary.get(code(index)), right(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public int code(int index) {
+        checkIndex(index);
+        return leftCodes[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public R right(int index) {
+        checkIndex(index);
+        return (R) rights[index];
+    }
+
+    public L decode(int code) {
+        return dictionary.get(code);
+    }
+
+    public int codeOf(Object left) {
+        final Integer code = codes.get(left);
+        return code == null ? -1 : code;
+    }
+
+    public int dictionarySize() {
+        return dictionary.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void scan(ObjIntConsumer<? super R> action) {
+        for (int index = 0; index < size; index++) {
+            action.accept((R) rights[index], leftCodes[index]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void scan(L left, Consumer<? super R> action) {
+        final int code = codeOf(left);
+        if (code < 0) {
+            return;
+        }
+        for (int index = 0; index < size; index++) {
+            if (leftCodes[index] == code) {
+                action.accept((R) rights[index]);
+            }
+        }
+    }
+
+    public Iterator<PairView<L, R>> cursor() {
+        final PairCursor<L, R> cursor = new PairCursor<>();
+        return new Iterator<PairView<L, R>>() {
+
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public PairView<L, R> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final int current = index++;
+                return cursor.set(dictionary.get(leftCodes[current]), (R) rights[current]);
+            }
+        };
+    }
+
+    public int[] countByCode() {
+        final int[] counts = new int[dictionary.size()];
+        for (int index = 0; index < size; index++) {
+            counts[leftCodes[index]]++;
+        }
+        return counts;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A> Map<L, A> groupBy(Supplier<? extends A> supplier, BiConsumer<? super A, ? super R> accumulator) {
+        final Object[] groups = new Object[dictionary.size()];
+        for (int index = 0; index < size; index++) {
+            final int code = leftCodes[index];
+            if (groups[code] == null) {
+                groups[code] = supplier.get();
+            }
+            accumulator.accept((A) groups[code], (R) rights[index]);
+        }
+        final Map<L, A> result = new LinkedHashMap<>(groups.length * 4 / 3 + 1);
+        for (int code = 0; code < groups.length; code++) {
+            result.put(dictionary.get(code), (A) groups[code]);
+        }
+        return result;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + size);
+        }
+    }
+}
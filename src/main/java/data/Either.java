@@ -1,7 +1,25 @@
 package data;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public abstract class Either<L, R> {
 
@@ -12,12 +30,37 @@ public abstract class Either<L, R> {
         return new Left<>(left);
     }
 
+    @SuppressWarnings("unchecked")
     public static <L, R> Either<L, R> right(R right) {
-        return new Right<>(right);
+        return right == null ? RIGHT_NULL : new Right<>(right);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L, R> Either<L, R> intern(Either<L, R> either) {
+        return either == RIGHT_NULL ? either : (Either<L, R>) INTERNED.intern(either);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>, R> Either<E, R> leftCode(E code) {
+        return ENUM_CODES.get(code.getDeclaringClass())[code.ordinal()];
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <R> Either<Integer, R> leftCode(int code) {
+        if (code >= 0 && code < IntCodes.LEFTS.length) {
+            return IntCodes.LEFTS[code];
+        }
+        return new Left<>(code);
+    }
+
+    static Either<?, ?> enumLeft(Enum<?> code) {
+        return ENUM_CODES.get(code.getDeclaringClass())[code.ordinal()];
     }
 
     public abstract <T> T fold(Function<? super L, ? extends T> onLeft, Function<? super R, ? extends T> onRight);
 
+    public abstract <C, T> T fold(C context, BiFunction<? super C, ? super L, ? extends T> onLeft, BiFunction<? super C, ? super R, ? extends T> onRight);
+
     public abstract boolean isLeft();
 
     public abstract boolean isRight();
@@ -28,6 +71,28 @@ public abstract class Either<L, R> {
 
     public abstract <T> Either<L, T> flatMap(Function<? super R, ? extends Either<? extends L, ? extends T>> mapper);
 
+    public abstract <C, T> Either<L, T> map(C context, BiFunction<? super C, ? super R, ? extends T> mapper);
+
+    public abstract <C, T> Either<L, T> flatMap(C context, BiFunction<? super C, ? super R, ? extends Either<? extends L, ? extends T>> mapper);
+
+    public abstract <T> Either<T, R> mapLeft(Function<? super L, ? extends T> mapper);
+
+    public abstract <A, B> Either<A, B> bimap(Function<? super L, ? extends A> leftMapper, Function<? super R, ? extends B> rightMapper);
+
+    public abstract <T> Either<T, R> flatMapLeft(Function<? super L, ? extends Either<? extends T, ? extends R>> mapper);
+
+    public abstract Either<L, R> orElse(Either<? extends L, ? extends R> alternative);
+
+    public abstract Either<L, R> orElse(Supplier<? extends Either<? extends L, ? extends R>> alternative);
+
+    public abstract Either<L, R> recover(Function<? super L, ? extends R> recovery);
+
+    public abstract Either<L, R> peek(Consumer<? super R> action);
+
+    public abstract Either<L, R> peekLeft(Consumer<? super L> action);
+
+    public abstract R getOrElse(R alternative);
+
     @SuppressWarnings("unchecked")
     public static <L, R> Either<L, R> join(Either<? extends L, ? extends Either<? extends L, ? extends R>> either) {
         return either.fold(left -> (Either<L, R>) either, right -> (Either<L, R>) right);
@@ -50,16 +115,340 @@ public abstract class Either<L, R> {
         return either -> function.flatMap(either::map);
     }
 
+    public static <K, L, R> Function<K, Either<L, R>> memoize(Function<? super K, ? extends Either<? extends L, ? extends R>> function, int capacity) {
+        return memoize(function, capacity, Long.MAX_VALUE, capacity, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, L, R> Function<K, Either<L, R>> memoize(Function<? super K, ? extends Either<? extends L, ? extends R>> function, int capacity, long ttl, int leftCapacity, long leftTtl, TimeUnit unit) {
+        final Cache<K, Either<L, R>> rights = new Cache<>(capacity, unit.toNanos(ttl), System::nanoTime);
+        final Cache<K, Either<L, R>> lefts = new Cache<>(leftCapacity, unit.toNanos(leftTtl), System::nanoTime);
+        return new Memoizer<>((Function<? super K, Either<L, R>>) function, Either::isRight, rights, lefts);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, L, R> Function<K, Either<L, R>> coalesce(Function<? super K, ? extends Either<? extends L, ? extends R>> loader) {
+        return new Coalescer<>((Function<? super K, Either<L, R>>) loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, L, R> Function<K, CompletableFuture<Either<L, R>>> coalesceAsync(Function<? super K, ? extends CompletionStage<? extends Either<? extends L, ? extends R>>> loader) {
+        return new AsyncCoalescer<>((Function<? super K, ? extends CompletionStage<Either<L, R>>>) loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, L, R> Either<L, List<R>> traverseBatched(Collection<? extends K> keys, Function<? super List<K>, ? extends Map<? extends K, ? extends Either<? extends L, ? extends R>>> loader, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        final List<K> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        final Map<K, Either<L, R>> results = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += batchSize) {
+            final List<K> batch = distinct.subList(from, Math.min(distinct.size(), from + batchSize));
+            final Map<? extends K, ? extends Either<? extends L, ? extends R>> loaded = loader.apply(batch);
+            boolean failed = false;
+            for (K key : batch) {
+                final Either<L, R> result = (Either<L, R>) loaded.get(key);
+                if (result == null) {
+                    throw new IllegalStateException("loader returned no result for key " + key);
+                }
+                results.put(key, result);
+                failed |= result.isLeft();
+            }
+            if (failed) {
+                break;
+            }
+        }
+        final List<R> values = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            final Either<L, R> result = results.get(key);
+            if (result instanceof Left) {
+                return (Left<L, List<R>>) result;
+            }
+            values.add(((Right<L, R>) result).right);
+        }
+        return Either.right(values);
+    }
+
+    public static <L, R> Iterator<R> rights(Iterator<? extends Either<? extends L, ? extends R>> eithers, Consumer<? super L> onLeft) {
+        return Spliterators.iterator(new RightSpliterator<>(Spliterators.spliteratorUnknownSize(eithers, Spliterator.ORDERED), onLeft));
+    }
+
+    public static <L, R> Stream<R> rights(Stream<? extends Either<? extends L, ? extends R>> eithers, Consumer<? super L> onLeft) {
+        return StreamSupport.stream(new RightSpliterator<L, R>(eithers.spliterator(), onLeft), eithers.isParallel()).onClose(eithers::close);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L, R> Either<L, R> firstRight(List<? extends Supplier<? extends Either<? extends L, ? extends R>>> alternatives) {
+        if (alternatives.isEmpty()) {
+            throw new IllegalArgumentException("no alternatives");
+        }
+        Either<L, R> result = null;
+        for (Supplier<? extends Either<? extends L, ? extends R>> alternative : alternatives) {
+            result = (Either<L, R>) alternative.get();
+            if (result instanceof Right) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L, R> CompletableFuture<Either<L, R>> firstRight(List<? extends Supplier<? extends Either<? extends L, ? extends R>>> alternatives, long hedgeDelay, TimeUnit unit, ScheduledExecutorService executor) {
+        if (alternatives.isEmpty()) {
+            throw new IllegalArgumentException("no alternatives");
+        }
+        return Hedge.race((List<? extends Supplier<Either<L, R>>>) alternatives, Either::isRight, hedgeDelay, unit, executor);
+    }
+
     @SuppressWarnings("unchecked")
     public static <L, R> Either<L, R> narrow(Either<? extends L, ? extends R> either) {
         return (Either<L, R>) either;
     }
 
+    private static class RightSpliterator<L, R> implements Spliterator<R>, Consumer<Either<? extends L, ? extends R>> {
+
+        private final Spliterator<? extends Either<? extends L, ? extends R>> source;
+        private final Consumer<? super L> onLeft;
+        private Either<? extends L, ? extends R> current;
+
+        private RightSpliterator(Spliterator<? extends Either<? extends L, ? extends R>> source, Consumer<? super L> onLeft) {
+            this.source = source;
+            this.onLeft = onLeft;
+        }
+
+        @Override
+        public void accept(Either<? extends L, ? extends R> either) {
+            current = either;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            while (source.tryAdvance(this)) {
+                final Either<? extends L, ? extends R> either = current;
+                current = null;
+                if (either instanceof Right) {
+                    action.accept(((Right<? extends L, ? extends R>) either).right);
+                    return true;
+                }
+                onLeft.accept(((Left<? extends L, ? extends R>) either).left);
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            source.forEachRemaining(either -> {
+                if (either instanceof Right) {
+                    action.accept(((Right<? extends L, ? extends R>) either).right);
+                } else {
+                    onLeft.accept(((Left<? extends L, ? extends R>) either).left);
+                }
+            });
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            final Spliterator<? extends Either<? extends L, ? extends R>> prefix = source.trySplit();
+            return prefix == null ? null : new RightSpliterator<>(prefix, onLeft);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & (Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.CONCURRENT);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, R> Either<L, R> map2(Either<? extends L, ? extends A> a, Either<? extends L, ? extends B> b, BiFunction<? super A, ? super B, ? extends R> mapper) {
+        if (a instanceof Left) {
+            return (Either<L, R>) a;
+        }
+        if (b instanceof Left) {
+            return (Either<L, R>) b;
+        }
+        return Either.right(mapper.apply(rightValue(a), rightValue(b)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, C, R> Either<L, R> map3(Either<? extends L, ? extends A> a, Either<? extends L, ? extends B> b, Either<? extends L, ? extends C> c, Function3<? super A, ? super B, ? super C, ? extends R> mapper) {
+        if (a instanceof Left) {
+            return (Either<L, R>) a;
+        }
+        if (b instanceof Left) {
+            return (Either<L, R>) b;
+        }
+        if (c instanceof Left) {
+            return (Either<L, R>) c;
+        }
+        return Either.right(mapper.apply(rightValue(a), rightValue(b), rightValue(c)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, C, D, R> Either<L, R> map4(Either<? extends L, ? extends A> a, Either<? extends L, ? extends B> b, Either<? extends L, ? extends C> c, Either<? extends L, ? extends D> d, Function4<? super A, ? super B, ? super C, ? super D, ? extends R> mapper) {
+        if (a instanceof Left) {
+            return (Either<L, R>) a;
+        }
+        if (b instanceof Left) {
+            return (Either<L, R>) b;
+        }
+        if (c instanceof Left) {
+            return (Either<L, R>) c;
+        }
+        if (d instanceof Left) {
+            return (Either<L, R>) d;
+        }
+        return Either.right(mapper.apply(rightValue(a), rightValue(b), rightValue(c), rightValue(d)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, C, D, E, R> Either<L, R> map5(Either<? extends L, ? extends A> a, Either<? extends L, ? extends B> b, Either<? extends L, ? extends C> c, Either<? extends L, ? extends D> d, Either<? extends L, ? extends E> e, Function5<? super A, ? super B, ? super C, ? super D, ? super E, ? extends R> mapper) {
+        if (a instanceof Left) {
+            return (Either<L, R>) a;
+        }
+        if (b instanceof Left) {
+            return (Either<L, R>) b;
+        }
+        if (c instanceof Left) {
+            return (Either<L, R>) c;
+        }
+        if (d instanceof Left) {
+            return (Either<L, R>) d;
+        }
+        if (e instanceof Left) {
+            return (Either<L, R>) e;
+        }
+        return Either.right(mapper.apply(rightValue(a), rightValue(b), rightValue(c), rightValue(d), rightValue(e)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, C, D, E, F, R> Either<L, R> map6(Either<? extends L, ? extends A> a, Either<? extends L, ? extends B> b, Either<? extends L, ? extends C> c, Either<? extends L, ? extends D> d, Either<? extends L, ? extends E> e, Either<? extends L, ? extends F> f, Function6<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? extends R> mapper) {
+        if (a instanceof Left) {
+            return (Either<L, R>) a;
+        }
+        if (b instanceof Left) {
+            return (Either<L, R>) b;
+        }
+        if (c instanceof Left) {
+            return (Either<L, R>) c;
+        }
+        if (d instanceof Left) {
+            return (Either<L, R>) d;
+        }
+        if (e instanceof Left) {
+            return (Either<L, R>) e;
+        }
+        if (f instanceof Left) {
+            return (Either<L, R>) f;
+        }
+        return Either.right(mapper.apply(rightValue(a), rightValue(b), rightValue(c), rightValue(d), rightValue(e), rightValue(f)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, C, D, E, F, G, R> Either<L, R> map7(Either<? extends L, ? extends A> a, Either<? extends L, ? extends B> b, Either<? extends L, ? extends C> c, Either<? extends L, ? extends D> d, Either<? extends L, ? extends E> e, Either<? extends L, ? extends F> f, Either<? extends L, ? extends G> g, Function7<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? extends R> mapper) {
+        if (a instanceof Left) {
+            return (Either<L, R>) a;
+        }
+        if (b instanceof Left) {
+            return (Either<L, R>) b;
+        }
+        if (c instanceof Left) {
+            return (Either<L, R>) c;
+        }
+        if (d instanceof Left) {
+            return (Either<L, R>) d;
+        }
+        if (e instanceof Left) {
+            return (Either<L, R>) e;
+        }
+        if (f instanceof Left) {
+            return (Either<L, R>) f;
+        }
+        if (g instanceof Left) {
+            return (Either<L, R>) g;
+        }
+        return Either.right(mapper.apply(rightValue(a), rightValue(b), rightValue(c), rightValue(d), rightValue(e), rightValue(f), rightValue(g)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, C, D, E, F, G, H, R> Either<L, R> map8(Either<? extends L, ? extends A> a, Either<? extends L, ? extends B> b, Either<? extends L, ? extends C> c, Either<? extends L, ? extends D> d, Either<? extends L, ? extends E> e, Either<? extends L, ? extends F> f, Either<? extends L, ? extends G> g, Either<? extends L, ? extends H> h, Function8<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? super H, ? extends R> mapper) {
+        if (a instanceof Left) {
+            return (Either<L, R>) a;
+        }
+        if (b instanceof Left) {
+            return (Either<L, R>) b;
+        }
+        if (c instanceof Left) {
+            return (Either<L, R>) c;
+        }
+        if (d instanceof Left) {
+            return (Either<L, R>) d;
+        }
+        if (e instanceof Left) {
+            return (Either<L, R>) e;
+        }
+        if (f instanceof Left) {
+            return (Either<L, R>) f;
+        }
+        if (g instanceof Left) {
+            return (Either<L, R>) g;
+        }
+        if (h instanceof Left) {
+            return (Either<L, R>) h;
+        }
+        return Either.right(mapper.apply(rightValue(a), rightValue(b), rightValue(c), rightValue(d), rightValue(e), rightValue(f), rightValue(g), rightValue(h)));
+    }
+
+    public static <L, A, B> Either<L, Pair<A, B>> zip(Either<? extends L, ? extends A> a, Either<? extends L, ? extends B> b) {
+        return map2(a, b, Pair::of);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T rightValue(Either<?, ? extends T> either) {
+        return ((Right<?, ? extends T>) either).right;
+    }
+
+    private static final Either RIGHT_NULL = new Right<>(null);
+
+    private static final Interner<Either<?, ?>> INTERNED = Interner.create();
+
+    private static final ClassValue<Either[]> ENUM_CODES = new ClassValue<Either[]>() {
+
+        @Override
+        protected Either[] computeValue(Class<?> type) {
+            final Object[] constants = type.getEnumConstants();
+            final Either[] lefts = new Either[constants.length];
+            for (int index = 0; index < constants.length; index++) {
+                lefts[index] = new Left<>(constants[index]);
+            }
+            return lefts;
+        }
+    };
+
+    private static final class IntCodes {
+
+        private static final Either[] LEFTS = new Either[1024];
+
+        static {
+            for (int code = 0; code < LEFTS.length; code++) {
+                LEFTS[code] = new Left<>(code);
+            }
+        }
+    }
+
     private static class Left<L, R> extends Either<L, R> {
 
         private final L left;
 
         public Left(L left) {
+            if (Allocations.ENABLED) {
+                Allocations.record(Allocations.Kind.LEFT);
+            }
             this.left = left;
         }
 
@@ -68,6 +457,11 @@ public abstract class Either<L, R> {
             return onLeft.apply(left);
         }
 
+        @Override
+        public <C, T> T fold(C context, BiFunction<? super C, ? super L, ? extends T> onLeft, BiFunction<? super C, ? super R, ? extends T> onRight) {
+            return onLeft.apply(context, left);
+        }
+
         @Override
         public boolean isLeft() {
             return true;
@@ -80,7 +474,7 @@ public abstract class Either<L, R> {
 
         @Override
         public Either<R, L> flip() {
-            return new Right<>(left);
+            return Either.right(left);
         }
 
         @Override
@@ -95,6 +489,67 @@ public abstract class Either<L, R> {
             return (Left<L, T>) this;
         }
 
+        @Override
+        @SuppressWarnings("unchecked")
+        public <C, T> Either<L, T> map(C context, BiFunction<? super C, ? super R, ? extends T> mapper) {
+            return (Left<L, T>) this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <C, T> Either<L, T> flatMap(C context, BiFunction<? super C, ? super R, ? extends Either<? extends L, ? extends T>> mapper) {
+            return (Left<L, T>) this;
+        }
+
+        @Override
+        public <T> Either<T, R> mapLeft(Function<? super L, ? extends T> mapper) {
+            return new Left<>(mapper.apply(left));
+        }
+
+        @Override
+        public <A, B> Either<A, B> bimap(Function<? super L, ? extends A> leftMapper, Function<? super R, ? extends B> rightMapper) {
+            return new Left<>(leftMapper.apply(left));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Either<T, R> flatMapLeft(Function<? super L, ? extends Either<? extends T, ? extends R>> mapper) {
+            return (Either<T, R>) mapper.apply(left);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Either<L, R> orElse(Either<? extends L, ? extends R> alternative) {
+            return (Either<L, R>) alternative;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Either<L, R> orElse(Supplier<? extends Either<? extends L, ? extends R>> alternative) {
+            return (Either<L, R>) alternative.get();
+        }
+
+        @Override
+        public Either<L, R> recover(Function<? super L, ? extends R> recovery) {
+            return Either.right(recovery.apply(left));
+        }
+
+        @Override
+        public Either<L, R> peek(Consumer<? super R> action) {
+            return this;
+        }
+
+        @Override
+        public Either<L, R> peekLeft(Consumer<? super L> action) {
+            action.accept(left);
+            return this;
+        }
+
+        @Override
+        public R getOrElse(R alternative) {
+            return alternative;
+        }
+
         @Override
         public boolean equals(Object object) {
             if (object == this) {
@@ -109,7 +564,7 @@ public abstract class Either<L, R> {
 
         @Override
         public int hashCode() {
-            return Objects.hashCode(left);
+            return Hashing.tagged(Hashing.LEFT, left);
         }
 
         @Override
@@ -123,6 +578,9 @@ public abstract class Either<L, R> {
         private final R right;
 
         public Right(R right) {
+            if (Allocations.ENABLED) {
+                Allocations.record(Allocations.Kind.RIGHT);
+            }
             this.right = right;
         }
 
@@ -131,6 +589,11 @@ public abstract class Either<L, R> {
             return onRight.apply(right);
         }
 
+        @Override
+        public <C, T> T fold(C context, BiFunction<? super C, ? super L, ? extends T> onLeft, BiFunction<? super C, ? super R, ? extends T> onRight) {
+            return onRight.apply(context, right);
+        }
+
         @Override
         public boolean isLeft() {
             return false;
@@ -147,8 +610,10 @@ public abstract class Either<L, R> {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public <T> Either<L, T> map(Function<? super R, ? extends T> mapper) {
-            return new Right<>(mapper.apply(right));
+            final T mapped = mapper.apply(right);
+            return mapped == (Object) right ? (Either<L, T>) this : Either.right(mapped);
         }
 
         @Override
@@ -157,6 +622,65 @@ public abstract class Either<L, R> {
             return (Either<L, T>) mapper.apply(right);
         }
 
+        @Override
+        public <C, T> Either<L, T> map(C context, BiFunction<? super C, ? super R, ? extends T> mapper) {
+            return Either.right(mapper.apply(context, right));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <C, T> Either<L, T> flatMap(C context, BiFunction<? super C, ? super R, ? extends Either<? extends L, ? extends T>> mapper) {
+            return (Either<L, T>) mapper.apply(context, right);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Either<T, R> mapLeft(Function<? super L, ? extends T> mapper) {
+            return (Right<T, R>) this;
+        }
+
+        @Override
+        public <A, B> Either<A, B> bimap(Function<? super L, ? extends A> leftMapper, Function<? super R, ? extends B> rightMapper) {
+            return Either.right(rightMapper.apply(right));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Either<T, R> flatMapLeft(Function<? super L, ? extends Either<? extends T, ? extends R>> mapper) {
+            return (Right<T, R>) this;
+        }
+
+        @Override
+        public Either<L, R> orElse(Either<? extends L, ? extends R> alternative) {
+            return this;
+        }
+
+        @Override
+        public Either<L, R> orElse(Supplier<? extends Either<? extends L, ? extends R>> alternative) {
+            return this;
+        }
+
+        @Override
+        public Either<L, R> recover(Function<? super L, ? extends R> recovery) {
+            return this;
+        }
+
+        @Override
+        public Either<L, R> peek(Consumer<? super R> action) {
+            action.accept(right);
+            return this;
+        }
+
+        @Override
+        public Either<L, R> peekLeft(Consumer<? super L> action) {
+            return this;
+        }
+
+        @Override
+        public R getOrElse(R alternative) {
+            return right;
+        }
+
         @Override
         public boolean equals(Object object) {
             if (object == this) {
@@ -171,7 +695,7 @@ public abstract class Either<L, R> {
 
         @Override
         public int hashCode() {
-            return Objects.hashCode(right);
+            return Hashing.tagged(Hashing.RIGHT, right);
         }
 
         @Override
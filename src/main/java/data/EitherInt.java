@@ -0,0 +1,272 @@
+package data;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+public abstract class EitherInt<L> {
+
+    private EitherInt() {
+    }
+
+    public static <L> EitherInt<L> left(L left) {
+        return new Left<>(left);
+    }
+
+    public static <L> EitherInt<L> right(int right) {
+        return new Right<>(right);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EitherInt<E> leftCode(E code) {
+        return CODES.get(code.getDeclaringClass())[code.ordinal()];
+    }
+
+    @SuppressWarnings("unchecked")
+    public static EitherInt<Integer> leftCode(int code) {
+        if (code >= 0 && code < IntCodes.LEFTS.length) {
+            return IntCodes.LEFTS[code];
+        }
+        return new Left<>(code);
+    }
+
+    public abstract <T> T fold(Function<? super L, ? extends T> onLeft, IntFunction<? extends T> onRight);
+
+    public abstract int foldToInt(ToIntFunction<? super L> onLeft, IntUnaryOperator onRight);
+
+    public abstract void apply(Consumer<? super L> onLeft, IntConsumer onRight);
+
+    public abstract boolean isLeft();
+
+    public abstract boolean isRight();
+
+    public abstract EitherInt<L> map(IntUnaryOperator mapper);
+
+    public abstract EitherInt<L> flatMap(IntFunction<? extends EitherInt<? extends L>> mapper);
+
+    public abstract <R> Either<L, R> mapToObj(IntFunction<? extends R> mapper);
+
+    public abstract int getOrElse(int alternative);
+
+    public abstract Either<L, Integer> boxed();
+
+    private static final ClassValue<EitherInt[]> CODES = new ClassValue<EitherInt[]>() {
+
+        @Override
+        protected EitherInt[] computeValue(Class<?> type) {
+            final Object[] constants = type.getEnumConstants();
+            final EitherInt[] lefts = new EitherInt[constants.length];
+            for (int index = 0; index < constants.length; index++) {
+                lefts[index] = new CodeLeft<>(constants[index], Either.enumLeft((Enum<?>) constants[index]));
+            }
+            return lefts;
+        }
+    };
+
+    private static final class IntCodes {
+
+        private static final EitherInt[] LEFTS = new EitherInt[1024];
+
+        static {
+            for (int code = 0; code < LEFTS.length; code++) {
+                LEFTS[code] = new CodeLeft<>(code, Either.leftCode(code));
+            }
+        }
+    }
+
+    private static class Left<L> extends EitherInt<L> {
+
+        private final L left;
+
+        public Left(L left) {
+            if (Allocations.ENABLED) {
+                Allocations.record(Allocations.Kind.LEFT);
+            }
+            this.left = left;
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> onLeft, IntFunction<? extends T> onRight) {
+            return onLeft.apply(left);
+        }
+
+        @Override
+        public int foldToInt(ToIntFunction<? super L> onLeft, IntUnaryOperator onRight) {
+            return onLeft.applyAsInt(left);
+        }
+
+        @Override
+        public void apply(Consumer<? super L> onLeft, IntConsumer onRight) {
+            onLeft.accept(left);
+        }
+
+        @Override
+        public boolean isLeft() {
+            return true;
+        }
+
+        @Override
+        public boolean isRight() {
+            return false;
+        }
+
+        @Override
+        public EitherInt<L> map(IntUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public EitherInt<L> flatMap(IntFunction<? extends EitherInt<? extends L>> mapper) {
+            return this;
+        }
+
+        @Override
+        public <R> Either<L, R> mapToObj(IntFunction<? extends R> mapper) {
+            return Either.left(left);
+        }
+
+        @Override
+        public int getOrElse(int alternative) {
+            return alternative;
+        }
+
+        @Override
+        public Either<L, Integer> boxed() {
+            return Either.left(left);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+            if (!(object instanceof Left)) {
+                return false;
+            }
+            final Left<?> other = (Left<?>) object;
+            return Objects.equals(left, other.left);
+        }
+
+        @Override
+        public int hashCode() {
+            return Hashing.tagged(Hashing.LEFT, left);
+        }
+
+        @Override
+        public String toString() {
+            return "Left " + left;
+        }
+    }
+
+    private static final class CodeLeft<L> extends Left<L> {
+
+        private final Either<?, ?> shared;
+
+        private CodeLeft(L left, Either<?, ?> shared) {
+            super(left);
+            this.shared = shared;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R> Either<L, R> mapToObj(IntFunction<? extends R> mapper) {
+            return (Either<L, R>) shared;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Either<L, Integer> boxed() {
+            return (Either<L, Integer>) shared;
+        }
+    }
+
+    private static class Right<L> extends EitherInt<L> {
+
+        private final int right;
+
+        public Right(int right) {
+            if (Allocations.ENABLED) {
+                Allocations.record(Allocations.Kind.RIGHT);
+            }
+            this.right = right;
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> onLeft, IntFunction<? extends T> onRight) {
+            return onRight.apply(right);
+        }
+
+        @Override
+        public int foldToInt(ToIntFunction<? super L> onLeft, IntUnaryOperator onRight) {
+            return onRight.applyAsInt(right);
+        }
+
+        @Override
+        public void apply(Consumer<? super L> onLeft, IntConsumer onRight) {
+            onRight.accept(right);
+        }
+
+        @Override
+        public boolean isLeft() {
+            return false;
+        }
+
+        @Override
+        public boolean isRight() {
+            return true;
+        }
+
+        @Override
+        public EitherInt<L> map(IntUnaryOperator mapper) {
+            final int mapped = mapper.applyAsInt(right);
+            return mapped == right ? this : new Right<>(mapped);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public EitherInt<L> flatMap(IntFunction<? extends EitherInt<? extends L>> mapper) {
+            return (EitherInt<L>) mapper.apply(right);
+        }
+
+        @Override
+        public <R> Either<L, R> mapToObj(IntFunction<? extends R> mapper) {
+            return Either.right(mapper.apply(right));
+        }
+
+        @Override
+        public int getOrElse(int alternative) {
+            return right;
+        }
+
+        @Override
+        public Either<L, Integer> boxed() {
+            return Either.right(right);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+            if (!(object instanceof Right)) {
+                return false;
+            }
+            final Right<?> other = (Right<?>) object;
+            return right == other.right;
+        }
+
+        @Override
+        public int hashCode() {
+            return Hashing.mix(Hashing.RIGHT ^ Integer.hashCode(right));
+        }
+
+        @Override
+        public String toString() {
+            return "Right " + right;
+        }
+    }
+}
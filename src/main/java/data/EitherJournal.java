@@ -0,0 +1,289 @@
+package data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+
+public final class EitherJournal<L, R> implements Closeable {
+
+    public interface Codec<T> {
+
+        void encode(T value, ByteBuffer out);
+
+        T decode(ByteBuffer in);
+
+        static Codec<String> string() {
+            return new Codec<String>() {
+
+                @Override
+                public void encode(String value, ByteBuffer out) {
+                    out.put(value.getBytes(StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public String decode(ByteBuffer in) {
+                    final byte[] bytes = new byte[in.remaining()];
+                    in.get(bytes);
+                    return new String(bytes, StandardCharsets.UTF_8);
+                }
+            };
+        }
+
+        static Codec<Long> int64() {
+            return new Codec<Long>() {
+
+                @Override
+                public void encode(Long value, ByteBuffer out) {
+                    out.putLong(value);
+                }
+
+                @Override
+                public Long decode(ByteBuffer in) {
+                    return in.getLong();
+                }
+            };
+        }
+    }
+
+    private static final int HEADER = 8;
+    private static final int RECORD_HEADER = 5;
+    private static final byte END = 0;
+    private static final byte LEFT = 1;
+    private static final byte RIGHT = 2;
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Codec<L> left;
+    private final Codec<R> right;
+    private final BiFunction<ByteBuffer, L, Byte> encodeLeft;
+    private final BiFunction<ByteBuffer, R, Byte> encodeRight;
+    private final List<Path> segments = new ArrayList<>();
+    private final List<Integer> counts = new ArrayList<>();
+    private int activeCount;
+    private ByteBuffer scratch = ByteBuffer.allocate(256);
+    private FileChannel channel;
+    private MappedByteBuffer active;
+    private boolean closed;
+
+    private EitherJournal(Path directory, int segmentSize, Codec<L> left, Codec<R> right) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.left = left;
+        this.right = right;
+        this.encodeLeft = (out, value) -> {
+            left.encode(value, out);
+            return LEFT;
+        };
+        this.encodeRight = (out, value) -> {
+            right.encode(value, out);
+            return RIGHT;
+        };
+    }
+
+    public static <L, R> EitherJournal<L, R> open(Path directory, int segmentSize, Codec<L> left, Codec<R> right) throws IOException {
+        if (segmentSize <= HEADER + RECORD_HEADER) {
+            throw new IllegalArgumentException("segmentSize too small: " + segmentSize);
+        }
+        Files.createDirectories(directory);
+        final EitherJournal<L, R> journal = new EitherJournal<>(directory, segmentSize, left, right);
+        final List<Path> existing = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            files.forEach(existing::add);
+        }
+        Collections.sort(existing);
+        for (Path segment : existing) {
+            if (!journal.segments.isEmpty()) {
+                journal.counts.add(readCount(journal.segments.get(journal.segments.size() - 1)));
+            }
+            journal.segments.add(segment);
+        }
+        if (existing.isEmpty()) {
+            journal.roll();
+        } else {
+            journal.map(existing.get(existing.size() - 1));
+        }
+        return journal;
+    }
+
+    public synchronized void append(Either<? extends L, ? extends R> outcome) throws IOException {
+        ensureOpen();
+        final byte tag = encode(Either.narrow(outcome));
+        final int length = scratch.position();
+        final int size = RECORD_HEADER + length;
+        if (size > segmentSize - HEADER) {
+            throw new IllegalArgumentException("record of " + size + " bytes does not fit in a segment of " + segmentSize + " bytes");
+        }
+        int position = active.getInt(4);
+        if (position + size > segmentSize) {
+            roll();
+            position = HEADER;
+        }
+        scratch.flip();
+        active.position(position + 1);
+        active.putInt(length);
+        active.put(scratch);
+        active.put(position, tag);
+        active.putInt(4, position + size);
+        active.putInt(0, ++activeCount);
+    }
+
+    public synchronized int[] segmentCounts() {
+        final int[] result = new int[counts.size() + 1];
+        for (int index = 0; index < counts.size(); index++) {
+            result[index] = counts.get(index);
+        }
+        result[counts.size()] = activeCount;
+        return result;
+    }
+
+    public synchronized long size() {
+        long size = activeCount;
+        for (int count : counts) {
+            size += count;
+        }
+        return size;
+    }
+
+    public Iterator<Either<L, R>> replay() {
+        final List<Path> paths;
+        final int[] snapshot;
+        synchronized (this) {
+            paths = new ArrayList<>(segments);
+            snapshot = segmentCounts();
+        }
+        return new Replay(paths, snapshot);
+    }
+
+    public synchronized void flush() {
+        ensureOpen();
+        active.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        active.force();
+        channel.close();
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("journal is closed");
+        }
+    }
+
+    private byte encode(Either<L, R> outcome) {
+        while (true) {
+            scratch.clear();
+            try {
+                return outcome.fold(scratch, encodeLeft, encodeRight);
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+    }
+
+    private void roll() throws IOException {
+        ensureOpen();
+        if (active != null) {
+            active.force();
+            channel.close();
+            counts.add(activeCount);
+        }
+        final Path segment = directory.resolve(String.format("%010d%s", segments.size(), SUFFIX));
+        segments.add(segment);
+        map(segment);
+    }
+
+    private void map(Path segment) throws IOException {
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        active = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        if (active.getInt(4) < HEADER) {
+            active.putInt(0, 0);
+            active.putInt(4, HEADER);
+        }
+        activeCount = active.getInt(0);
+    }
+
+    private static int readCount(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER);
+            channel.read(header, 0);
+            return header.hasRemaining() ? 0 : header.getInt(0);
+        }
+    }
+
+    private final class Replay implements Iterator<Either<L, R>> {
+
+        private final List<Path> paths;
+        private final int[] counts;
+        private int segment = -1;
+        private int remaining;
+        private ByteBuffer buffer;
+
+        private Replay(List<Path> paths, int[] counts) {
+            this.paths = paths;
+            this.counts = counts;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (remaining == 0) {
+                if (segment + 1 == paths.size()) {
+                    return false;
+                }
+                remaining = counts[++segment];
+                buffer = null;
+            }
+            return true;
+        }
+
+        @Override
+        public Either<L, R> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (buffer == null) {
+                buffer = open(paths.get(segment));
+                buffer.position(HEADER);
+            }
+            final byte tag = buffer.get();
+            final int length = buffer.getInt();
+            if (tag == END) {
+                throw new IllegalStateException("journal segment " + paths.get(segment) + " ends before its recorded count");
+            }
+            final ByteBuffer payload = buffer.slice();
+            payload.limit(length);
+            buffer.position(buffer.position() + length);
+            remaining--;
+            return tag == LEFT ? Either.left(left.decode(payload)) : Either.right(right.decode(payload));
+        }
+
+        private ByteBuffer open(Path path) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
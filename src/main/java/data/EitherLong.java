@@ -0,0 +1,272 @@
+package data;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+public abstract class EitherLong<L> {
+
+    private EitherLong() {
+    }
+
+    public static <L> EitherLong<L> left(L left) {
+        return new Left<>(left);
+    }
+
+    public static <L> EitherLong<L> right(long right) {
+        return new Right<>(right);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EitherLong<E> leftCode(E code) {
+        return CODES.get(code.getDeclaringClass())[code.ordinal()];
+    }
+
+    @SuppressWarnings("unchecked")
+    public static EitherLong<Integer> leftCode(int code) {
+        if (code >= 0 && code < IntCodes.LEFTS.length) {
+            return IntCodes.LEFTS[code];
+        }
+        return new Left<>(code);
+    }
+
+    public abstract <T> T fold(Function<? super L, ? extends T> onLeft, LongFunction<? extends T> onRight);
+
+    public abstract long foldToLong(ToLongFunction<? super L> onLeft, LongUnaryOperator onRight);
+
+    public abstract void apply(Consumer<? super L> onLeft, LongConsumer onRight);
+
+    public abstract boolean isLeft();
+
+    public abstract boolean isRight();
+
+    public abstract EitherLong<L> map(LongUnaryOperator mapper);
+
+    public abstract EitherLong<L> flatMap(LongFunction<? extends EitherLong<? extends L>> mapper);
+
+    public abstract <R> Either<L, R> mapToObj(LongFunction<? extends R> mapper);
+
+    public abstract long getOrElse(long alternative);
+
+    public abstract Either<L, Long> boxed();
+
+    private static final ClassValue<EitherLong[]> CODES = new ClassValue<EitherLong[]>() {
+
+        @Override
+        protected EitherLong[] computeValue(Class<?> type) {
+            final Object[] constants = type.getEnumConstants();
+            final EitherLong[] lefts = new EitherLong[constants.length];
+            for (int index = 0; index < constants.length; index++) {
+                lefts[index] = new CodeLeft<>(constants[index], Either.enumLeft((Enum<?>) constants[index]));
+            }
+            return lefts;
+        }
+    };
+
+    private static final class IntCodes {
+
+        private static final EitherLong[] LEFTS = new EitherLong[1024];
+
+        static {
+            for (int code = 0; code < LEFTS.length; code++) {
+                LEFTS[code] = new CodeLeft<>(code, Either.leftCode(code));
+            }
+        }
+    }
+
+    private static class Left<L> extends EitherLong<L> {
+
+        private final L left;
+
+        public Left(L left) {
+            if (Allocations.ENABLED) {
+                Allocations.record(Allocations.Kind.LEFT);
+            }
+            this.left = left;
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> onLeft, LongFunction<? extends T> onRight) {
+            return onLeft.apply(left);
+        }
+
+        @Override
+        public long foldToLong(ToLongFunction<? super L> onLeft, LongUnaryOperator onRight) {
+            return onLeft.applyAsLong(left);
+        }
+
+        @Override
+        public void apply(Consumer<? super L> onLeft, LongConsumer onRight) {
+            onLeft.accept(left);
+        }
+
+        @Override
+        public boolean isLeft() {
+            return true;
+        }
+
+        @Override
+        public boolean isRight() {
+            return false;
+        }
+
+        @Override
+        public EitherLong<L> map(LongUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public EitherLong<L> flatMap(LongFunction<? extends EitherLong<? extends L>> mapper) {
+            return this;
+        }
+
+        @Override
+        public <R> Either<L, R> mapToObj(LongFunction<? extends R> mapper) {
+            return Either.left(left);
+        }
+
+        @Override
+        public long getOrElse(long alternative) {
+            return alternative;
+        }
+
+        @Override
+        public Either<L, Long> boxed() {
+            return Either.left(left);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+            if (!(object instanceof Left)) {
+                return false;
+            }
+            final Left<?> other = (Left<?>) object;
+            return Objects.equals(left, other.left);
+        }
+
+        @Override
+        public int hashCode() {
+            return Hashing.tagged(Hashing.LEFT, left);
+        }
+
+        @Override
+        public String toString() {
+            return "Left " + left;
+        }
+    }
+
+    private static final class CodeLeft<L> extends Left<L> {
+
+        private final Either<?, ?> shared;
+
+        private CodeLeft(L left, Either<?, ?> shared) {
+            super(left);
+            this.shared = shared;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R> Either<L, R> mapToObj(LongFunction<? extends R> mapper) {
+            return (Either<L, R>) shared;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Either<L, Long> boxed() {
+            return (Either<L, Long>) shared;
+        }
+    }
+
+    private static class Right<L> extends EitherLong<L> {
+
+        private final long right;
+
+        public Right(long right) {
+            if (Allocations.ENABLED) {
+                Allocations.record(Allocations.Kind.RIGHT);
+            }
+            this.right = right;
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> onLeft, LongFunction<? extends T> onRight) {
+            return onRight.apply(right);
+        }
+
+        @Override
+        public long foldToLong(ToLongFunction<? super L> onLeft, LongUnaryOperator onRight) {
+            return onRight.applyAsLong(right);
+        }
+
+        @Override
+        public void apply(Consumer<? super L> onLeft, LongConsumer onRight) {
+            onRight.accept(right);
+        }
+
+        @Override
+        public boolean isLeft() {
+            return false;
+        }
+
+        @Override
+        public boolean isRight() {
+            return true;
+        }
+
+        @Override
+        public EitherLong<L> map(LongUnaryOperator mapper) {
+            final long mapped = mapper.applyAsLong(right);
+            return mapped == right ? this : new Right<>(mapped);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public EitherLong<L> flatMap(LongFunction<? extends EitherLong<? extends L>> mapper) {
+            return (EitherLong<L>) mapper.apply(right);
+        }
+
+        @Override
+        public <R> Either<L, R> mapToObj(LongFunction<? extends R> mapper) {
+            return Either.right(mapper.apply(right));
+        }
+
+        @Override
+        public long getOrElse(long alternative) {
+            return right;
+        }
+
+        @Override
+        public Either<L, Long> boxed() {
+            return Either.right(right);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+            if (!(object instanceof Right)) {
+                return false;
+            }
+            final Right<?> other = (Right<?>) object;
+            return right == other.right;
+        }
+
+        @Override
+        public int hashCode() {
+            return Hashing.mix(Hashing.RIGHT ^ Long.hashCode(right));
+        }
+
+        @Override
+        public String toString() {
+            return "Right " + right;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package data;
+
+@FunctionalInterface
+public interface Function3<A, B, C, R> {
+
+    R apply(A a, B b, C c);
+}
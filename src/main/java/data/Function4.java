@@ -0,0 +1,7 @@
+package data;
+
+@FunctionalInterface
+public interface Function4<A, B, C, D, R> {
+
+    R apply(A a, B b, C c, D d);
+}
@@ -0,0 +1,7 @@
+package data;
+
+@FunctionalInterface
+public interface Function5<A, B, C, D, E, R> {
+
+    R apply(A a, B b, C c, D d, E e);
+}
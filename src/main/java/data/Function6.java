@@ -0,0 +1,7 @@
+package data;
+
+@FunctionalInterface
+public interface Function6<A, B, C, D, E, F, R> {
+
+    R apply(A a, B b, C c, D d, E e, F f);
+}
@@ -0,0 +1,7 @@
+package data;
+
+@FunctionalInterface
+public interface Function7<A, B, C, D, E, F, G, R> {
+
+    R apply(A a, B b, C c, D d, E e, F f, G g);
+}
@@ -0,0 +1,28 @@
+package data;
+
+final class Hashing {
+
+    static final int JUST = 0x2545F491;
+    static final int LEFT = 0x6A09E667;
+    static final int RIGHT = 0x3C6EF372;
+
+    private Hashing() {
+    }
+
+    static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    static int tagged(int seed, Object value) {
+        return mix(seed ^ (value == null ? 0 : value.hashCode()));
+    }
+
+    static int ordered(Object first, Object second) {
+        return mix(mix(first == null ? 0 : first.hashCode()) + (second == null ? 0 : second.hashCode()));
+    }
+}
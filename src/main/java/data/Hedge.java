@@ -0,0 +1,109 @@
+package data;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+final class Hedge<T> {
+
+    private final List<? extends Supplier<? extends T>> alternatives;
+    private final Predicate<? super T> success;
+    private final long delayNanos;
+    private final ScheduledExecutorService executor;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final Queue<Future<?>> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger launched = new AtomicInteger();
+    private final AtomicInteger finished = new AtomicInteger();
+    private final AtomicReference<Future<?>> pending = new AtomicReference<>();
+    private final AtomicReferenceArray<T> outcomes;
+    private volatile Throwable lastFailure;
+
+    private Hedge(List<? extends Supplier<? extends T>> alternatives, Predicate<? super T> success, long delayNanos, ScheduledExecutorService executor) {
+        this.alternatives = alternatives;
+        this.success = success;
+        this.delayNanos = delayNanos;
+        this.executor = executor;
+        this.outcomes = new AtomicReferenceArray<>(alternatives.size());
+    }
+
+    static <T> CompletableFuture<T> race(List<? extends Supplier<? extends T>> alternatives, Predicate<? super T> success, long delay, TimeUnit unit, ScheduledExecutorService executor) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("delay must not be negative");
+        }
+        final Hedge<T> hedge = new Hedge<>(alternatives, success, unit.toNanos(delay), executor);
+        hedge.result.whenComplete((value, failure) -> hedge.cancelAll());
+        hedge.launch();
+        return hedge.result;
+    }
+
+    private void launch() {
+        final int index = launched.getAndIncrement();
+        if (index >= alternatives.size() || result.isDone()) {
+            return;
+        }
+        track(executor.submit(() -> run(index)));
+        if (index + 1 < alternatives.size()) {
+            if (delayNanos == 0) {
+                launch();
+            } else {
+                final Future<?> next = executor.schedule(this::launch, delayNanos, TimeUnit.NANOSECONDS);
+                final Future<?> previous = pending.getAndSet(next);
+                if (previous != null) {
+                    previous.cancel(false);
+                }
+                track(next);
+            }
+        }
+    }
+
+    private void run(int index) {
+        try {
+            final T outcome = alternatives.get(index).get();
+            if (success.test(outcome)) {
+                result.complete(outcome);
+                return;
+            }
+            outcomes.set(index, outcome);
+        } catch (RuntimeException | Error e) {
+            if (index == alternatives.size() - 1) {
+                lastFailure = e;
+            }
+        }
+        if (finished.incrementAndGet() == alternatives.size()) {
+            final Throwable failure = lastFailure;
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(outcomes.get(alternatives.size() - 1));
+            }
+        } else {
+            final Future<?> scheduled = pending.getAndSet(null);
+            if (scheduled == null || scheduled.cancel(false)) {
+                launch();
+            }
+        }
+    }
+
+    private void track(Future<?> task) {
+        tasks.add(task);
+        if (result.isDone()) {
+            cancelAll();
+        }
+    }
+
+    private void cancelAll() {
+        Future<?> task;
+        while ((task = tasks.poll()) != null) {
+            task.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package data;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+public final class Interner<T> {
+
+    private final Map<T, WeakReference<T>>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    private Interner(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive");
+        }
+        final int size = Integer.highestOneBit(concurrency * 2 - 1);
+        this.stripes = new Map[size];
+        for (int index = 0; index < size; index++) {
+            stripes[index] = new WeakHashMap<>();
+        }
+    }
+
+    public static <T> Interner<T> create() {
+        return new Interner<>(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    public static <T> Interner<T> create(int concurrency) {
+        return new Interner<>(concurrency);
+    }
+
+    public T intern(T value) {
+        final Map<T, WeakReference<T>> stripe = stripes[Hashing.mix(value.hashCode()) & stripes.length - 1];
+        synchronized (stripe) {
+            final WeakReference<T> reference = stripe.get(value);
+            final T canonical = reference == null ? null : reference.get();
+            if (canonical != null) {
+                return canonical;
+            }
+            stripe.put(value, new WeakReference<>(value));
+            return value;
+        }
+    }
+
+    WeakReference<T> reference(T value) {
+        final Map<T, WeakReference<T>> stripe = stripes[Hashing.mix(value.hashCode()) & stripes.length - 1];
+        synchronized (stripe) {
+            return stripe.get(value);
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Map<T, WeakReference<T>> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+}
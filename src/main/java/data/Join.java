@@ -0,0 +1,221 @@
+package data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class Join {
+
+    private Join() {
+    }
+
+    public static <A, B, K> Stream<Pair<A, B>> inner(Collection<? extends A> lefts, Function<? super A, ? extends K> leftKey, Collection<? extends B> rights, Function<? super B, ? extends K> rightKey) {
+        final Map<K, Bucket<B>> table = index(rights, rightKey);
+        return lefts.stream().flatMap(left -> {
+            final Bucket<B> bucket = table.get(leftKey.apply(left));
+            return bucket == null ? Stream.empty() : bucket.rows.stream().map(right -> Pair.<A, B>of(left, right));
+        });
+    }
+
+    public static <A, B, K> Stream<Pair<A, Maybe<B>>> leftOuter(Collection<? extends A> lefts, Function<? super A, ? extends K> leftKey, Collection<? extends B> rights, Function<? super B, ? extends K> rightKey) {
+        final Map<K, Bucket<B>> table = index(rights, rightKey);
+        return lefts.stream().flatMap(left -> {
+            final Bucket<B> bucket = table.get(leftKey.apply(left));
+            return bucket == null ? Stream.of(Pair.<A, Maybe<B>>of(left, Maybe.nothing())) : bucket.rows.stream().map(right -> Pair.<A, Maybe<B>>of(left, Maybe.just(right)));
+        });
+    }
+
+    public static <A, B, K> Stream<Pair<Maybe<A>, Maybe<B>>> fullOuter(Collection<? extends A> lefts, Function<? super A, ? extends K> leftKey, Collection<? extends B> rights, Function<? super B, ? extends K> rightKey) {
+        final Map<K, Bucket<B>> table = index(rights, rightKey);
+        return fullOuter(new FullOuterIterator<A, B>(lefts.iterator()) {
+
+            @Override
+            protected Iterator<B> probe(A left) {
+                final Bucket<B> bucket = table.get(leftKey.apply(left));
+                if (bucket == null) {
+                    return null;
+                }
+                bucket.matched = true;
+                return bucket.rows.iterator();
+            }
+
+            @Override
+            protected Iterator<B> unmatched() {
+                return table.values().stream().filter(bucket -> !bucket.matched).flatMap(bucket -> bucket.rows.stream()).iterator();
+            }
+        });
+    }
+
+    public static <A, B> Stream<Pair<A, B>> innerByInt(Collection<? extends A> lefts, ToIntFunction<? super A> leftKey, Collection<? extends B> rights, ToIntFunction<? super B> rightKey) {
+        final IntTable<B> table = new IntTable<>(rights, rightKey);
+        return lefts.stream().flatMap(left -> {
+            final int row = table.first(leftKey.applyAsInt(left));
+            return row < 0 ? Stream.empty() : table.matches(row).map(right -> Pair.<A, B>of(left, right));
+        });
+    }
+
+    public static <A, B> Stream<Pair<A, Maybe<B>>> leftOuterByInt(Collection<? extends A> lefts, ToIntFunction<? super A> leftKey, Collection<? extends B> rights, ToIntFunction<? super B> rightKey) {
+        final IntTable<B> table = new IntTable<>(rights, rightKey);
+        return lefts.stream().flatMap(left -> {
+            final int row = table.first(leftKey.applyAsInt(left));
+            return row < 0 ? Stream.of(Pair.<A, Maybe<B>>of(left, Maybe.nothing())) : table.matches(row).map(right -> Pair.<A, Maybe<B>>of(left, Maybe.just(right)));
+        });
+    }
+
+    public static <A, B> Stream<Pair<Maybe<A>, Maybe<B>>> fullOuterByInt(Collection<? extends A> lefts, ToIntFunction<? super A> leftKey, Collection<? extends B> rights, ToIntFunction<? super B> rightKey) {
+        final IntTable<B> table = new IntTable<>(rights, rightKey);
+        final boolean[] matched = new boolean[table.rows.length];
+        return fullOuter(new FullOuterIterator<A, B>(lefts.iterator()) {
+
+            @Override
+            protected Iterator<B> probe(A left) {
+                final int first = table.first(leftKey.applyAsInt(left));
+                if (first < 0) {
+                    return null;
+                }
+                for (int row = first; row >= 0; row = table.next(row)) {
+                    matched[row] = true;
+                }
+                return table.matches(first).iterator();
+            }
+
+            @Override
+            protected Iterator<B> unmatched() {
+                return IntStream.range(0, matched.length).filter(row -> !matched[row]).mapToObj(table::row).iterator();
+            }
+        });
+    }
+
+    private static <A, B> Stream<Pair<Maybe<A>, Maybe<B>>> fullOuter(FullOuterIterator<A, B> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static <B, K> Map<K, Bucket<B>> index(Collection<? extends B> rights, Function<? super B, ? extends K> rightKey) {
+        final Map<K, Bucket<B>> table = new HashMap<>(Math.max(16, (int) (rights.size() / 0.75f) + 1));
+        for (B right : rights) {
+            table.computeIfAbsent(rightKey.apply(right), key -> new Bucket<>()).rows.add(right);
+        }
+        return table;
+    }
+
+    private static final class Bucket<B> {
+
+        private final List<B> rows = new ArrayList<>(1);
+        private boolean matched;
+    }
+
+    private abstract static class FullOuterIterator<A, B> implements Iterator<Pair<Maybe<A>, Maybe<B>>> {
+
+        private final Iterator<? extends A> lefts;
+        private A left;
+        private Iterator<B> matches;
+        private Iterator<B> unmatched;
+
+        private FullOuterIterator(Iterator<? extends A> lefts) {
+            this.lefts = lefts;
+        }
+
+        protected abstract Iterator<B> probe(A left);
+
+        protected abstract Iterator<B> unmatched();
+
+        @Override
+        public boolean hasNext() {
+            if (matches != null && matches.hasNext() || lefts.hasNext()) {
+                return true;
+            }
+            if (unmatched == null) {
+                unmatched = unmatched();
+            }
+            return unmatched.hasNext();
+        }
+
+        @Override
+        public Pair<Maybe<A>, Maybe<B>> next() {
+            if (matches != null && matches.hasNext()) {
+                return Pair.of(Maybe.just(left), Maybe.just(matches.next()));
+            }
+            if (lefts.hasNext()) {
+                left = lefts.next();
+                matches = probe(left);
+                if (matches == null) {
+                    return Pair.of(Maybe.just(left), Maybe.nothing());
+                }
+                return Pair.of(Maybe.just(left), Maybe.just(matches.next()));
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return Pair.of(Maybe.nothing(), Maybe.just(unmatched.next()));
+        }
+    }
+
+    private static final class IntTable<B> {
+
+        private final int[] keys;
+        private final int[] heads;
+        private final int[] next;
+        private final Object[] rows;
+        private final int mask;
+
+        private IntTable(Collection<? extends B> rights, ToIntFunction<? super B> rightKey) {
+            this.rows = rights.toArray();
+            this.next = new int[rows.length];
+            final int capacity = Integer.highestOneBit(Math.max(1, rows.length) * 2 - 1) << 1;
+            this.keys = new int[capacity];
+            this.heads = new int[capacity];
+            this.mask = capacity - 1;
+            for (int row = rows.length - 1; row >= 0; row--) {
+                @SuppressWarnings("unchecked")
+                final int key = rightKey.applyAsInt((B) rows[row]);
+                final int slot = slot(key);
+                keys[slot] = key;
+                next[row] = heads[slot] - 1;
+                heads[slot] = row + 1;
+            }
+        }
+
+        private int first(int key) {
+            return heads[slot(key)] - 1;
+        }
+
+        private int next(int row) {
+            return next[row];
+        }
+
+        @SuppressWarnings("unchecked")
+        private B row(int row) {
+            return (B) rows[row];
+        }
+
+        private Stream<B> matches(int first) {
+            if (next[first] < 0) {
+                return Stream.of(row(first));
+            }
+            final List<B> matches = new ArrayList<>();
+            for (int row = first; row >= 0; row = next[row]) {
+                matches.add(row(row));
+            }
+            return matches.stream();
+        }
+
+        private int slot(int key) {
+            int slot = Hashing.mix(key) & mask;
+            while (heads[slot] != 0 && keys[slot] != key) {
+                slot = slot + 1 & mask;
+            }
+            return slot;
+        }
+    }
+}
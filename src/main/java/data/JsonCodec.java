@@ -0,0 +1,237 @@
+package data;
+
+import java.io.IOException;
+import java.io.Reader;
+
+public interface JsonCodec<T> {
+
+    void write(T value, JsonWriter out) throws IOException;
+
+    T read(JsonReader in) throws IOException;
+
+    default void write(T value, Appendable out) throws IOException {
+        write(value, new JsonWriter(out));
+    }
+
+    default T read(Reader in) throws IOException {
+        return read(new JsonReader(in));
+    }
+
+    static JsonCodec<String> string() {
+        return new JsonCodec<String>() {
+
+            @Override
+            public void write(String value, JsonWriter out) throws IOException {
+                out.value(value);
+            }
+
+            @Override
+            public String read(JsonReader in) throws IOException {
+                if (in.peek() == JsonReader.Token.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                return in.nextString();
+            }
+        };
+    }
+
+    static JsonCodec<Long> int64() {
+        return new JsonCodec<Long>() {
+
+            @Override
+            public void write(Long value, JsonWriter out) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                } else {
+                    out.value(value.longValue());
+                }
+            }
+
+            @Override
+            public Long read(JsonReader in) throws IOException {
+                if (in.peek() == JsonReader.Token.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                return in.nextLong();
+            }
+        };
+    }
+
+    static JsonCodec<Double> float64() {
+        return new JsonCodec<Double>() {
+
+            @Override
+            public void write(Double value, JsonWriter out) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                } else {
+                    out.value(value.doubleValue());
+                }
+            }
+
+            @Override
+            public Double read(JsonReader in) throws IOException {
+                if (in.peek() == JsonReader.Token.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                return in.nextDouble();
+            }
+        };
+    }
+
+    static JsonCodec<Boolean> bool() {
+        return new JsonCodec<Boolean>() {
+
+            @Override
+            public void write(Boolean value, JsonWriter out) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                } else {
+                    out.value(value.booleanValue());
+                }
+            }
+
+            @Override
+            public Boolean read(JsonReader in) throws IOException {
+                if (in.peek() == JsonReader.Token.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                return in.nextBoolean();
+            }
+        };
+    }
+
+    static <T> JsonCodec<Maybe<T>> maybe(JsonCodec<T> element) {
+        return new JsonCodec<Maybe<T>>() {
+
+            @Override
+            public void write(Maybe<T> value, JsonWriter out) throws IOException {
+                if (value.isNothing()) {
+                    out.nullValue();
+                } else {
+                    element.write(value.fold(just -> just, () -> null), out);
+                }
+            }
+
+            @Override
+            public Maybe<T> read(JsonReader in) throws IOException {
+                if (in.peek() == JsonReader.Token.NULL) {
+                    in.nextNull();
+                    return Maybe.nothing();
+                }
+                return Maybe.just(element.read(in));
+            }
+        };
+    }
+
+    static <T> JsonCodec<Maybe<T>> maybe(JsonCodec<T> element, String justTag) {
+        return new JsonCodec<Maybe<T>>() {
+
+            @Override
+            public void write(Maybe<T> value, JsonWriter out) throws IOException {
+                if (value.isNothing()) {
+                    out.nullValue();
+                    return;
+                }
+                out.beginObject().name(justTag);
+                element.write(value.fold(just -> just, () -> null), out);
+                out.endObject();
+            }
+
+            @Override
+            public Maybe<T> read(JsonReader in) throws IOException {
+                if (in.peek() == JsonReader.Token.NULL) {
+                    in.nextNull();
+                    return Maybe.nothing();
+                }
+                in.beginObject();
+                final String tag = in.nextName();
+                if (!justTag.equals(tag)) {
+                    throw new IOException("malformed JSON: unexpected tag " + tag);
+                }
+                final T value = element.read(in);
+                in.endObject();
+                return Maybe.just(value);
+            }
+        };
+    }
+
+    static <L, R> JsonCodec<Either<L, R>> either(JsonCodec<L> left, JsonCodec<R> right) {
+        return either(left, "left", right, "right");
+    }
+
+    static <L, R> JsonCodec<Either<L, R>> either(JsonCodec<L> left, String leftTag, JsonCodec<R> right, String rightTag) {
+        return new JsonCodec<Either<L, R>>() {
+
+            @Override
+            public void write(Either<L, R> value, JsonWriter out) throws IOException {
+                out.beginObject();
+                if (value.isLeft()) {
+                    out.name(leftTag);
+                    left.write(value.fold(l -> l, r -> null), out);
+                } else {
+                    out.name(rightTag);
+                    right.write(value.fold(l -> null, r -> r), out);
+                }
+                out.endObject();
+            }
+
+            @Override
+            public Either<L, R> read(JsonReader in) throws IOException {
+                in.beginObject();
+                final String tag = in.nextName();
+                final Either<L, R> value;
+                if (leftTag.equals(tag)) {
+                    value = Either.left(left.read(in));
+                } else if (rightTag.equals(tag)) {
+                    value = Either.right(right.read(in));
+                } else {
+                    throw new IOException("malformed JSON: unexpected tag " + tag);
+                }
+                in.endObject();
+                return value;
+            }
+        };
+    }
+
+    static <L, R> JsonCodec<Pair<L, R>> pair(JsonCodec<L> left, JsonCodec<R> right) {
+        return pair(left, "left", right, "right");
+    }
+
+    static <L, R> JsonCodec<Pair<L, R>> pair(JsonCodec<L> left, String leftName, JsonCodec<R> right, String rightName) {
+        return new JsonCodec<Pair<L, R>>() {
+
+            @Override
+            public void write(Pair<L, R> value, JsonWriter out) throws IOException {
+                out.beginObject().name(leftName);
+                left.write(value.left(), out);
+                out.name(rightName);
+                right.write(value.right(), out);
+                out.endObject();
+            }
+
+            @Override
+            public Pair<L, R> read(JsonReader in) throws IOException {
+                L first = null;
+                R second = null;
+                in.beginObject();
+                while (in.hasNext()) {
+                    final String name = in.nextName();
+                    if (leftName.equals(name)) {
+                        first = left.read(in);
+                    } else if (rightName.equals(name)) {
+                        second = right.read(in);
+                    } else {
+                        in.skipValue();
+                    }
+                }
+                in.endObject();
+                return Pair.of(first, second);
+            }
+        };
+    }
+}
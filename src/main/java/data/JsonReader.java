@@ -0,0 +1,390 @@
+package data;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.Arrays;
+
+public final class JsonReader {
+
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int DANGLING_NAME = 6;
+
+    private final Reader in;
+    private final char[] buffer = new char[1024];
+    private final StringBuilder text = new StringBuilder();
+    private int position;
+    private int limit;
+    private int[] stack = new int[16];
+    private int depth = 1;
+    private Token peeked;
+
+    public JsonReader(Reader in) {
+        this.in = in;
+    }
+
+    public Token peek() throws IOException {
+        if (peeked != null) {
+            return peeked;
+        }
+        int c = nextNonWhitespace();
+        switch (stack[depth - 1]) {
+            case EMPTY_DOCUMENT:
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case NONEMPTY_DOCUMENT:
+                if (c == -1) {
+                    return peeked = Token.END_DOCUMENT;
+                }
+                throw syntax("trailing content");
+            case EMPTY_ARRAY:
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                if (c == ']') {
+                    position++;
+                    return peeked = Token.END_ARRAY;
+                }
+                break;
+            case NONEMPTY_ARRAY:
+                if (c == ']') {
+                    position++;
+                    return peeked = Token.END_ARRAY;
+                }
+                expect(c, ',');
+                c = nextNonWhitespace();
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                if (c == '}') {
+                    position++;
+                    return peeked = Token.END_OBJECT;
+                }
+                if (stack[depth - 1] == NONEMPTY_OBJECT) {
+                    expect(c, ',');
+                    c = nextNonWhitespace();
+                }
+                expect(c, '"');
+                stack[depth - 1] = DANGLING_NAME;
+                return peeked = Token.NAME;
+            case DANGLING_NAME:
+                expect(c, ':');
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                c = nextNonWhitespace();
+                break;
+            default:
+                throw new IllegalStateException();
+        }
+        switch (c) {
+            case '{':
+                position++;
+                return peeked = Token.BEGIN_OBJECT;
+            case '[':
+                position++;
+                return peeked = Token.BEGIN_ARRAY;
+            case '"':
+                position++;
+                return peeked = Token.STRING;
+            case 't':
+            case 'f':
+                return peeked = Token.BOOLEAN;
+            case 'n':
+                return peeked = Token.NULL;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                return peeked = Token.NUMBER;
+            case -1:
+                throw syntax("unexpected end of input");
+            default:
+                throw syntax("unexpected character '" + (char) c + "'");
+        }
+    }
+
+    public boolean hasNext() throws IOException {
+        final Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    public void beginObject() throws IOException {
+        consume(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() throws IOException {
+        consume(Token.END_OBJECT);
+        depth--;
+        endValue();
+    }
+
+    public void beginArray() throws IOException {
+        consume(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() throws IOException {
+        consume(Token.END_ARRAY);
+        depth--;
+        endValue();
+    }
+
+    public String nextName() throws IOException {
+        consume(Token.NAME);
+        return readString();
+    }
+
+    public String nextString() throws IOException {
+        consume(Token.STRING);
+        final String value = readString();
+        endValue();
+        return value;
+    }
+
+    public boolean nextBoolean() throws IOException {
+        consume(Token.BOOLEAN);
+        final boolean value = fill() && buffer[position] == 't';
+        literal(value ? "true" : "false");
+        endValue();
+        return value;
+    }
+
+    public void nextNull() throws IOException {
+        consume(Token.NULL);
+        literal("null");
+        endValue();
+    }
+
+    public long nextLong() throws IOException {
+        consume(Token.NUMBER);
+        final String number = readNumber();
+        endValue();
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            throw syntax("not a long: " + number);
+        }
+    }
+
+    public double nextDouble() throws IOException {
+        consume(Token.NUMBER);
+        final String number = readNumber();
+        endValue();
+        try {
+            return Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            throw syntax("not a number: " + number);
+        }
+    }
+
+    public void skipValue() throws IOException {
+        int nesting = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    nesting++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    nesting++;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    nesting--;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    nesting--;
+                    break;
+                case NAME:
+                    nextName();
+                    break;
+                case STRING:
+                    nextString();
+                    break;
+                case NUMBER:
+                    nextDouble();
+                    break;
+                case BOOLEAN:
+                    nextBoolean();
+                    break;
+                case NULL:
+                    nextNull();
+                    break;
+                default:
+                    throw syntax("no value to skip");
+            }
+        } while (nesting > 0);
+    }
+
+    private void consume(Token expected) throws IOException {
+        final Token token = peek();
+        if (token != expected) {
+            throw syntax("expected " + expected + " but was " + token);
+        }
+        peeked = null;
+    }
+
+    private void push(int state) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = state;
+    }
+
+    private void endValue() throws IOException {
+        if (depth > 1 || position == limit) {
+            return;
+        }
+        if (in.markSupported()) {
+            in.reset();
+            for (long skip = position; skip > 0; ) {
+                skip -= in.skip(skip);
+            }
+        } else if (in instanceof PushbackReader) {
+            ((PushbackReader) in).unread(buffer, position, limit - position);
+        } else {
+            return;
+        }
+        position = 0;
+        limit = 0;
+    }
+
+    private boolean fill() throws IOException {
+        if (position < limit) {
+            return true;
+        }
+        final int read;
+        if (in.markSupported()) {
+            in.mark(buffer.length);
+            read = in.read(buffer, 0, buffer.length);
+        } else {
+            read = in.read(buffer, 0, 1);
+        }
+        position = 0;
+        limit = Math.max(0, read);
+        return read > 0;
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (fill()) {
+            final char c = buffer[position];
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return c;
+            }
+            position++;
+        }
+        return -1;
+    }
+
+    private void expect(int c, char expected) throws IOException {
+        if (c != expected) {
+            throw syntax(c == -1 ? "unexpected end of input" : "expected '" + expected + "' but was '" + (char) c + "'");
+        }
+        position++;
+    }
+
+    private void literal(String literal) throws IOException {
+        for (int index = 0; index < literal.length(); index++) {
+            if (!fill() || buffer[position] != literal.charAt(index)) {
+                throw syntax("expected " + literal);
+            }
+            position++;
+        }
+    }
+
+    private String readString() throws IOException {
+        text.setLength(0);
+        while (true) {
+            if (!fill()) {
+                throw syntax("unterminated string");
+            }
+            final char c = buffer[position++];
+            if (c == '"') {
+                return text.toString();
+            }
+            if (c != '\\') {
+                text.append(c);
+                continue;
+            }
+            if (!fill()) {
+                throw syntax("unterminated escape");
+            }
+            final char escaped = buffer[position++];
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    text.append(escaped);
+                    break;
+                case 'b':
+                    text.append('\b');
+                    break;
+                case 'f':
+                    text.append('\f');
+                    break;
+                case 'n':
+                    text.append('\n');
+                    break;
+                case 'r':
+                    text.append('\r');
+                    break;
+                case 't':
+                    text.append('\t');
+                    break;
+                case 'u':
+                    text.append(readUnicode());
+                    break;
+                default:
+                    throw syntax("invalid escape '\\" + escaped + "'");
+            }
+        }
+    }
+
+    private char readUnicode() throws IOException {
+        int value = 0;
+        for (int index = 0; index < 4; index++) {
+            if (!fill()) {
+                throw syntax("unterminated escape");
+            }
+            final int digit = Character.digit(buffer[position++], 16);
+            if (digit < 0) {
+                throw syntax("invalid unicode escape");
+            }
+            value = value << 4 | digit;
+        }
+        return (char) value;
+    }
+
+    private String readNumber() throws IOException {
+        text.setLength(0);
+        while (fill()) {
+            final char c = buffer[position];
+            if ((c < '0' || c > '9') && c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E') {
+                break;
+            }
+            text.append(c);
+            position++;
+        }
+        return text.toString();
+    }
+
+    private IOException syntax(String message) {
+        return new IOException("malformed JSON: " + message);
+    }
+}
@@ -0,0 +1,186 @@
+package data;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+public final class JsonWriter {
+
+    private static final int DOCUMENT = 0;
+    private static final int EMPTY_ARRAY = 1;
+    private static final int NONEMPTY_ARRAY = 2;
+    private static final int EMPTY_OBJECT = 3;
+    private static final int NONEMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int CLOSED = 6;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Appendable out;
+    private final char[] digits = new char[20];
+    private int[] stack = new int[16];
+    private int depth = 1;
+
+    public JsonWriter(Appendable out) {
+        this.out = out;
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        beforeValue();
+        push(EMPTY_OBJECT);
+        out.append('{');
+        return this;
+    }
+
+    public JsonWriter endObject() throws IOException {
+        pop(EMPTY_OBJECT, NONEMPTY_OBJECT);
+        out.append('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        beforeValue();
+        push(EMPTY_ARRAY);
+        out.append('[');
+        return this;
+    }
+
+    public JsonWriter endArray() throws IOException {
+        pop(EMPTY_ARRAY, NONEMPTY_ARRAY);
+        out.append(']');
+        return this;
+    }
+
+    public JsonWriter name(String name) throws IOException {
+        final int state = stack[depth - 1];
+        if (state == NONEMPTY_OBJECT) {
+            out.append(',');
+        } else if (state != EMPTY_OBJECT) {
+            throw new IllegalStateException("name outside of an object");
+        }
+        string(name);
+        out.append(':');
+        stack[depth - 1] = DANGLING_NAME;
+        return this;
+    }
+
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        string(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        if (value == Long.MIN_VALUE) {
+            out.append("-9223372036854775808");
+            return this;
+        }
+        long remaining = Math.abs(value);
+        int position = digits.length;
+        do {
+            digits[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) {
+            digits[--position] = '-';
+        }
+        for (; position < digits.length; position++) {
+            out.append(digits[position]);
+        }
+        return this;
+    }
+
+    public JsonWriter value(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("JSON numbers must be finite: " + value);
+        }
+        beforeValue();
+        out.append(Double.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        out.append(value ? "true" : "false");
+        return this;
+    }
+
+    public JsonWriter nullValue() throws IOException {
+        beforeValue();
+        out.append("null");
+        return this;
+    }
+
+    private void beforeValue() throws IOException {
+        switch (stack[depth - 1]) {
+            case DOCUMENT:
+                stack[depth - 1] = CLOSED;
+                break;
+            case EMPTY_ARRAY:
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY:
+                out.append(',');
+                break;
+            case DANGLING_NAME:
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                break;
+            default:
+                throw new IllegalStateException(depth == 1 ? "document already written" : "value without a name");
+        }
+    }
+
+    private void push(int state) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = state;
+    }
+
+    private void pop(int empty, int nonempty) {
+        final int state = stack[depth - 1];
+        if (depth == 1 || state != empty && state != nonempty) {
+            throw new IllegalStateException("unbalanced end of container");
+        }
+        depth--;
+    }
+
+    private void string(String value) throws IOException {
+        out.append('"');
+        for (int index = 0; index < value.length(); index++) {
+            final char c = value.charAt(index);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '\b':
+                    out.append("\\b");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                default:
+                    if (c < 0x20 || c == 0x2028 || c == 0x2029) {
+                        out.append("\\u").append(HEX[c >> 12 & 0xF]).append(HEX[c >> 8 & 0xF]).append(HEX[c >> 4 & 0xF]).append(HEX[c & 0xF]);
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+}
@@ -1,6 +1,17 @@
 package data;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -11,8 +22,9 @@ public abstract class Maybe<T> {
     private Maybe() {
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> Maybe<T> just(T value) {
-        return new Just<>(value);
+        return value == null ? JUST_NULL : new Just<>(value);
     }
 
     @SuppressWarnings("unchecked")
@@ -20,12 +32,23 @@ public abstract class Maybe<T> {
         return NOTHING;
     }
 
+    @SuppressWarnings("unchecked")
+    public static <T> Maybe<T> intern(Maybe<T> maybe) {
+        return maybe == NOTHING || maybe == JUST_NULL ? maybe : (Maybe<T>) INTERNED.intern(maybe);
+    }
+
     public abstract <R> R fold(Function<? super T, ? extends R> onValue, Supplier<? extends R> onNothing);
 
     public abstract void apply(Consumer<? super T> onValue);
 
     public abstract void apply(Consumer<? super T> onValue, Runnable onNothing);
 
+    public abstract <C, R> R fold(C context, BiFunction<? super C, ? super T, ? extends R> onValue, Function<? super C, ? extends R> onNothing);
+
+    public abstract <C> void apply(C context, BiConsumer<? super C, ? super T> onValue);
+
+    public abstract <C> void apply(C context, BiConsumer<? super C, ? super T> onValue, Consumer<? super C> onNothing);
+
     public abstract boolean hasValue();
 
     public abstract boolean isNothing();
@@ -44,6 +67,10 @@ public abstract class Maybe<T> {
 
     public abstract <R> Maybe<R> flatMap(Function<? super T, ? extends Maybe<? extends R>> mapper);
 
+    public abstract <C, R> Maybe<R> map(C context, BiFunction<? super C, ? super T, ? extends R> mapper);
+
+    public abstract <C, R> Maybe<R> flatMap(C context, BiFunction<? super C, ? super T, ? extends Maybe<? extends R>> mapper);
+
     public static <T> Maybe<T> join(Maybe<? extends Maybe<? extends T>> maybe) {
         return maybe.flatMap(Function.<Maybe<? extends T>>identity());
     }
@@ -60,6 +87,137 @@ public abstract class Maybe<T> {
         return maybe -> function.flatMap(maybe::map);
     }
 
+    public static <K, V> Function<K, Maybe<V>> memoize(Function<? super K, ? extends Maybe<? extends V>> function, int capacity) {
+        return memoize(function, capacity, Long.MAX_VALUE, capacity, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> Function<K, Maybe<V>> memoize(Function<? super K, ? extends Maybe<? extends V>> function, int capacity, long ttl, int nothingCapacity, long nothingTtl, TimeUnit unit) {
+        final Cache<K, Maybe<V>> justs = new Cache<>(capacity, unit.toNanos(ttl), System::nanoTime);
+        final Cache<K, Maybe<V>> nothings = new Cache<>(nothingCapacity, unit.toNanos(nothingTtl), System::nanoTime);
+        return new Memoizer<>((Function<? super K, Maybe<V>>) function, Maybe::hasValue, justs, nothings);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, T> Maybe<List<T>> traverseBatched(Collection<? extends K> keys, Function<? super List<K>, ? extends Map<? extends K, ? extends Maybe<? extends T>>> loader, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        final List<K> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        final Map<K, Maybe<T>> results = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += batchSize) {
+            final List<K> batch = distinct.subList(from, Math.min(distinct.size(), from + batchSize));
+            final Map<? extends K, ? extends Maybe<? extends T>> loaded = loader.apply(batch);
+            boolean missing = false;
+            for (K key : batch) {
+                final Maybe<T> result = (Maybe<T>) loaded.get(key);
+                if (result == null || result == NOTHING) {
+                    missing = true;
+                    break;
+                }
+                results.put(key, result);
+            }
+            if (missing) {
+                return NOTHING;
+            }
+        }
+        final List<T> values = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            values.add(((Just<T>) results.get(key)).value);
+        }
+        return just(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, R> Maybe<R> map2(Maybe<? extends A> a, Maybe<? extends B> b, BiFunction<? super A, ? super B, ? extends R> mapper) {
+        if (a == NOTHING || b == NOTHING) {
+            return NOTHING;
+        }
+        return just(mapper.apply(value(a), value(b)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, R> Maybe<R> map3(Maybe<? extends A> a, Maybe<? extends B> b, Maybe<? extends C> c, Function3<? super A, ? super B, ? super C, ? extends R> mapper) {
+        if (a == NOTHING || b == NOTHING || c == NOTHING) {
+            return NOTHING;
+        }
+        return just(mapper.apply(value(a), value(b), value(c)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, R> Maybe<R> map4(Maybe<? extends A> a, Maybe<? extends B> b, Maybe<? extends C> c, Maybe<? extends D> d, Function4<? super A, ? super B, ? super C, ? super D, ? extends R> mapper) {
+        if (a == NOTHING || b == NOTHING || c == NOTHING || d == NOTHING) {
+            return NOTHING;
+        }
+        return just(mapper.apply(value(a), value(b), value(c), value(d)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, R> Maybe<R> map5(Maybe<? extends A> a, Maybe<? extends B> b, Maybe<? extends C> c, Maybe<? extends D> d, Maybe<? extends E> e, Function5<? super A, ? super B, ? super C, ? super D, ? super E, ? extends R> mapper) {
+        if (a == NOTHING || b == NOTHING || c == NOTHING || d == NOTHING || e == NOTHING) {
+            return NOTHING;
+        }
+        return just(mapper.apply(value(a), value(b), value(c), value(d), value(e)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, R> Maybe<R> map6(Maybe<? extends A> a, Maybe<? extends B> b, Maybe<? extends C> c, Maybe<? extends D> d, Maybe<? extends E> e, Maybe<? extends F> f, Function6<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? extends R> mapper) {
+        if (a == NOTHING || b == NOTHING || c == NOTHING || d == NOTHING || e == NOTHING || f == NOTHING) {
+            return NOTHING;
+        }
+        return just(mapper.apply(value(a), value(b), value(c), value(d), value(e), value(f)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, R> Maybe<R> map7(Maybe<? extends A> a, Maybe<? extends B> b, Maybe<? extends C> c, Maybe<? extends D> d, Maybe<? extends E> e, Maybe<? extends F> f, Maybe<? extends G> g, Function7<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? extends R> mapper) {
+        if (a == NOTHING || b == NOTHING || c == NOTHING || d == NOTHING || e == NOTHING || f == NOTHING || g == NOTHING) {
+            return NOTHING;
+        }
+        return just(mapper.apply(value(a), value(b), value(c), value(d), value(e), value(f), value(g)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H, R> Maybe<R> map8(Maybe<? extends A> a, Maybe<? extends B> b, Maybe<? extends C> c, Maybe<? extends D> d, Maybe<? extends E> e, Maybe<? extends F> f, Maybe<? extends G> g, Maybe<? extends H> h, Function8<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? super H, ? extends R> mapper) {
+        if (a == NOTHING || b == NOTHING || c == NOTHING || d == NOTHING || e == NOTHING || f == NOTHING || g == NOTHING || h == NOTHING) {
+            return NOTHING;
+        }
+        return just(mapper.apply(value(a), value(b), value(c), value(d), value(e), value(f), value(g), value(h)));
+    }
+
+    public static <A, B> Maybe<Pair<A, B>> zip(Maybe<? extends A> a, Maybe<? extends B> b) {
+        return map2(a, b, Pair::of);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T value(Maybe<? extends T> maybe) {
+        return ((Just<? extends T>) maybe).value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> Maybe<V> get(Map<? extends K, ? extends V> map, K key) {
+        final Object value = ((Map<Object, Object>) map).getOrDefault(key, ABSENT);
+        return value == ABSENT ? NOTHING : just((V) value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Maybe<T> firstOf(List<? extends Supplier<? extends Maybe<? extends T>>> alternatives) {
+        for (Supplier<? extends Maybe<? extends T>> alternative : alternatives) {
+            final Maybe<T> result = (Maybe<T>) alternative.get();
+            if (result != NOTHING) {
+                return result;
+            }
+        }
+        return NOTHING;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> CompletableFuture<Maybe<T>> firstOf(List<? extends Supplier<? extends Maybe<? extends T>>> alternatives, long hedgeDelay, TimeUnit unit, ScheduledExecutorService executor) {
+        if (alternatives.isEmpty()) {
+            return CompletableFuture.completedFuture(NOTHING);
+        }
+        return Hedge.race((List<? extends Supplier<Maybe<T>>>) alternatives, Maybe::hasValue, hedgeDelay, unit, executor);
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> Maybe<T> narrow(Maybe<? extends T> maybe) {
         return (Maybe<T>) maybe;
@@ -70,6 +228,9 @@ public abstract class Maybe<T> {
         private final T value;
 
         public Just(T value) {
+            if (Allocations.ENABLED) {
+                Allocations.record(Allocations.Kind.JUST);
+            }
             this.value = value;
         }
 
@@ -88,6 +249,21 @@ public abstract class Maybe<T> {
             onValue.accept(value);
         }
 
+        @Override
+        public <C, R> R fold(C context, BiFunction<? super C, ? super T, ? extends R> onValue, Function<? super C, ? extends R> onNothing) {
+            return onValue.apply(context, value);
+        }
+
+        @Override
+        public <C> void apply(C context, BiConsumer<? super C, ? super T> onValue) {
+            onValue.accept(context, value);
+        }
+
+        @Override
+        public <C> void apply(C context, BiConsumer<? super C, ? super T> onValue, Consumer<? super C> onNothing) {
+            onValue.accept(context, value);
+        }
+
         @Override
         public boolean hasValue() {
             return true;
@@ -125,8 +301,10 @@ public abstract class Maybe<T> {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public <R> Maybe<R> map(Function<? super T, ? extends R> mapper) {
-            return new Just<>(mapper.apply(value));
+            final R mapped = mapper.apply(value);
+            return mapped == (Object) value ? (Maybe<R>) this : just(mapped);
         }
 
         @Override
@@ -135,6 +313,17 @@ public abstract class Maybe<T> {
             return (Maybe<R>) mapper.apply(value);
         }
 
+        @Override
+        public <C, R> Maybe<R> map(C context, BiFunction<? super C, ? super T, ? extends R> mapper) {
+            return just(mapper.apply(context, value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <C, R> Maybe<R> flatMap(C context, BiFunction<? super C, ? super T, ? extends Maybe<? extends R>> mapper) {
+            return (Maybe<R>) mapper.apply(context, value);
+        }
+
         @Override
         public boolean equals(Object object) {
             if (object == this) {
@@ -149,7 +338,7 @@ public abstract class Maybe<T> {
 
         @Override
         public int hashCode() {
-            return Objects.hashCode(value);
+            return Hashing.tagged(Hashing.JUST, value);
         }
 
         @Override
@@ -158,6 +347,12 @@ public abstract class Maybe<T> {
         }
     }
 
+    private static final Object ABSENT = new Object();
+
+    private static final Maybe JUST_NULL = new Just<>(null);
+
+    private static final Interner<Maybe<?>> INTERNED = Interner.create();
+
     private static final Maybe NOTHING = new Maybe() {
 
         @Override
@@ -174,6 +369,22 @@ public abstract class Maybe<T> {
             onNothing.run();
         }
 
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object fold(Object context, BiFunction onValue, Function onNothing) {
+            return onNothing.apply(context);
+        }
+
+        @Override
+        public void apply(Object context, BiConsumer onValue) {
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void apply(Object context, BiConsumer onValue, Consumer onNothing) {
+            onNothing.accept(context);
+        }
+
         @Override
         public boolean hasValue() {
             return false;
@@ -219,6 +430,16 @@ public abstract class Maybe<T> {
             return this;
         }
 
+        @Override
+        public Maybe map(Object context, BiFunction mapper) {
+            return this;
+        }
+
+        @Override
+        public Maybe flatMap(Object context, BiFunction mapper) {
+            return this;
+        }
+
         @Override
         public boolean equals(Object object) {
             return object == this;
@@ -0,0 +1,50 @@
+package data;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+public final class MaybeMap<K, V> {
+
+    private final Map<K, V> map;
+    private final boolean concurrent;
+
+    private MaybeMap(Map<K, V> map) {
+        this.map = map;
+        this.concurrent = map instanceof ConcurrentMap;
+    }
+
+    public static <K, V> MaybeMap<K, V> of(Map<K, V> map) {
+        return new MaybeMap<>(map);
+    }
+
+    public Maybe<V> get(K key) {
+        return Maybe.get(map, key);
+    }
+
+    public Maybe<V> computeIfAbsent(K key, Function<? super K, ? extends Maybe<? extends V>> loader) {
+        final Maybe<V> present = Maybe.get(map, key);
+        if (present.hasValue()) {
+            return present;
+        }
+        if (concurrent) {
+            final V value = map.computeIfAbsent(key, absent -> storable(Maybe.narrow(loader.apply(absent))));
+            return value == null ? Maybe.nothing() : Maybe.just(value);
+        }
+        final Maybe<V> loaded = Maybe.narrow(loader.apply(key));
+        loaded.apply(value -> map.put(key, value));
+        return loaded;
+    }
+
+    private static <V> V storable(Maybe<V> loaded) {
+        final V value = loaded.orElse((V) null);
+        if (value == null && loaded.hasValue()) {
+            throw new NullPointerException("a concurrent map cannot store the value of Just(null)");
+        }
+        return value;
+    }
+
+    public Map<K, V> asMap() {
+        return map;
+    }
+}
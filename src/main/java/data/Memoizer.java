@@ -0,0 +1,36 @@
+package data;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+final class Memoizer<K, T> implements Function<K, T> {
+
+    private final Function<? super K, ? extends T> function;
+    private final Predicate<? super T> positive;
+    private final Cache<K, T> positives;
+    private final Cache<K, T> negatives;
+
+    Memoizer(Function<? super K, ? extends T> function, Predicate<? super T> positive, Cache<K, T> positives, Cache<K, T> negatives) {
+        this.function = function;
+        this.positive = positive;
+        this.positives = positives;
+        this.negatives = negatives;
+    }
+
+    @Override
+    public T apply(K key) {
+        final T cached = positives.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final T negative = negatives.get(key);
+        if (negative != null) {
+            return negative;
+        }
+        final T result = function.apply(key);
+        if (result != null) {
+            (positive.test(result) ? positives : negatives).put(key, result);
+        }
+        return result;
+    }
+}
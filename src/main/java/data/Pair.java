@@ -1,68 +1,138 @@
 package data;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
-public class Pair<L, R> {
+public class Pair<L, R> implements PairView<L, R> {
+
+    private static final Pair EMPTY = new Pair<>(null, null);
+    private static final Interner<Pair<?, ?>> INTERNED = Interner.create();
 
     private final L left;
     private final R right;
 
     private Pair(L left, R right) {
+        if (Allocations.ENABLED) {
+            Allocations.record(Allocations.Kind.PAIR);
+        }
         this.left = left;
         this.right = right;
     }
 
+    @SuppressWarnings("unchecked")
     public static <L, R> Pair<L, R> of(L left, R right) {
-        return new Pair<>(left, right);
+        return left == null && right == null ? EMPTY : new Pair<>(left, right);
+    }
+
+    public static <L, R> Pair<L, R> of(Map.Entry<? extends L, ? extends R> entry) {
+        return of(entry.getKey(), entry.getValue());
+    }
+
+    public static <K, V> void forEachEntry(Map<? extends K, ? extends V> map, Consumer<? super PairView<K, V>> action) {
+        final PairCursor<K, V> cursor = new PairCursor<>();
+        map.forEach((key, value) -> action.accept(cursor.set(key, value)));
+    }
+
+    public static <K, V> Collector<PairView<? extends K, ? extends V>, ?, HashMap<K, V>> toHashMap() {
+        return toHashMap(16);
+    }
+
+    public static <K, V> Collector<PairView<? extends K, ? extends V>, ?, HashMap<K, V>> toHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative");
+        }
+        final int capacity = (int) Math.min(Integer.MAX_VALUE, (long) expectedSize * 4 / 3 + 1);
+        return Collector.of(() -> new HashMap<>(capacity), (map, pair) -> map.put(pair.left(), pair.right()), (former, latter) -> {
+            former.putAll(latter);
+            return former;
+        }, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    public static <L, R> Pair<L, R> hashed(L left, R right) {
+        return new Hashed<>(left, right);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L, R> Pair<L, R> intern(Pair<L, R> pair) {
+        return pair.left == null && pair.right == null ? EMPTY : (Pair<L, R>) INTERNED.intern(pair);
     }
 
     public static <L, R> Function<R, Pair<L, R>> ofLeft(L left) {
-        return right -> new Pair<>(left, right);
+        return right -> of(left, right);
     }
 
     public static <L, R> Function<L, Pair<L, R>> ofRight(R right) {
-        return left -> new Pair<>(left, right);
+        return left -> of(left, right);
     }
 
+    @Override
     public L left() {
         return left;
     }
 
+    @Override
     public R right() {
         return right;
     }
 
+    @Override
+    public Pair<L, R> toPair() {
+        return this;
+    }
+
+    public Map.Entry<L, R> asEntry() {
+        return new Entry<>(this);
+    }
+
     public <LT> Pair<LT, R> withLeft(LT left) {
-        return new Pair<>(left, right);
+        return of(left, right);
     }
 
     public <RT> Pair<L, RT> withRight(RT right) {
-        return new Pair<>(left, right);
+        return of(left, right);
     }
 
     public Pair<R, L> flip() {
-        return new Pair<>(right, left);
+        return of(right, left);
     }
 
     public <LT> Pair<LT, R> mapLeft(Function<? super L, ? extends LT> leftMapper) {
-        return new Pair<>(leftMapper.apply(left), right);
+        return of(leftMapper.apply(left), right);
     }
 
     public <RT> Pair<L, RT> mapRight(Function<? super R, ? extends RT> rightMapper) {
-        return new Pair<>(left, rightMapper.apply(right));
+        return of(left, rightMapper.apply(right));
     }
 
     public <LT, RT> Pair<LT, RT> map(Function<? super L, ? extends LT> leftMapper, Function<? super R, ? extends RT> rightMapper) {
-        final Supplier<Pair<LT, RT>> leftProjection = () -> new Pair<>(leftMapper.apply(left), null);
-        final Supplier<Pair<LT, RT>> rightProjection = () -> new Pair<>(null, rightMapper.apply(right));
+        final Supplier<Pair<LT, RT>> leftProjection = () -> of(leftMapper.apply(left), null);
+        final Supplier<Pair<LT, RT>> rightProjection = () -> of(null, rightMapper.apply(right));
         return Stream.of(leftProjection, rightProjection).parallel().map(Supplier::get).reduce(Pair::merge).get();
     }
 
     private static <L, R> Pair<L, R> merge(Pair<L, R> former, Pair<L, R> latter) {
-        return former.left != null || latter.right != null ? new Pair<>(former.left, latter.right) : new Pair<>(latter.left, former.right);
+        return former.left != null || latter.right != null ? of(former.left, latter.right) : of(latter.left, former.right);
+    }
+
+    public static <L extends Comparable<? super L>, R extends Comparable<? super R>> Comparator<Pair<L, R>> naturalOrder() {
+        return (former, latter) -> {
+            final int order = former.left.compareTo(latter.left);
+            return order != 0 ? order : former.right.compareTo(latter.right);
+        };
+    }
+
+    public static <L, R> Comparator<Pair<L, R>> comparator(Comparator<? super L> leftComparator, Comparator<? super R> rightComparator) {
+        return (former, latter) -> {
+            final int order = leftComparator.compare(former.left, latter.left);
+            return order != 0 ? order : rightComparator.compare(former.right, latter.right);
+        };
     }
 
     @SuppressWarnings("unchecked")
@@ -84,11 +154,83 @@ public class Pair<L, R> {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(left) ^ Objects.hashCode(right);
+        return Hashing.ordered(left, right);
     }
 
     @Override
     public String toString() {
         return "(" + left + ',' + right + ')';
     }
+
+    private static final class Hashed<L, R> extends Pair<L, R> {
+
+        private final int hash;
+
+        private Hashed(L left, R right) {
+            super(left, right);
+            this.hash = Hashing.ordered(left, right);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+            if (object instanceof Hashed && ((Hashed<?, ?>) object).hash != hash) {
+                return false;
+            }
+            return super.equals(object);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry<L, R> implements Map.Entry<L, R> {
+
+        private final Pair<L, R> pair;
+
+        private Entry(Pair<L, R> pair) {
+            this.pair = pair;
+        }
+
+        @Override
+        public L getKey() {
+            return pair.left;
+        }
+
+        @Override
+        public R getValue() {
+            return pair.right;
+        }
+
+        @Override
+        public R setValue(R value) {
+            throw new UnsupportedOperationException("pairs are immutable");
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+            if (!(object instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> other = (Map.Entry<?, ?>) object;
+            return Objects.equals(pair.left, other.getKey()) && Objects.equals(pair.right, other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(pair.left) ^ Objects.hashCode(pair.right);
+        }
+
+        @Override
+        public String toString() {
+            return pair.left + "=" + pair.right;
+        }
+    }
 }
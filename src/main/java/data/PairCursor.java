@@ -0,0 +1,83 @@
+package data;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+public final class PairCursor<L, R> implements PairView<L, R> {
+
+    private L left;
+    private R right;
+
+    public PairCursor<L, R> set(L left, R right) {
+        this.left = left;
+        this.right = right;
+        return this;
+    }
+
+    @Override
+    public L left() {
+        return left;
+    }
+
+    @Override
+    public R right() {
+        return right;
+    }
+
+    public static <L, R> Iterator<PairView<L, R>> zip(Iterator<? extends L> lefts, Iterator<? extends R> rights) {
+        final PairCursor<L, R> cursor = new PairCursor<>();
+        return new Iterator<PairView<L, R>>() {
+
+            @Override
+            public boolean hasNext() {
+                return lefts.hasNext() && rights.hasNext();
+            }
+
+            @Override
+            public PairView<L, R> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return cursor.set(lefts.next(), rights.next());
+            }
+        };
+    }
+
+    public static <K, V> Iterator<PairView<K, V>> entries(Map<? extends K, ? extends V> map) {
+        final Iterator<? extends Map.Entry<? extends K, ? extends V>> entries = map.entrySet().iterator();
+        final PairCursor<K, V> cursor = new PairCursor<>();
+        return new Iterator<PairView<K, V>>() {
+
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public PairView<K, V> next() {
+                final Map.Entry<? extends K, ? extends V> entry = entries.next();
+                return cursor.set(entry.getKey(), entry.getValue());
+            }
+
+            @Override
+            public void remove() {
+                entries.remove();
+            }
+        };
+    }
+
+    public static <L, R> void scan(L[] lefts, R[] rights, Consumer<? super PairView<L, R>> action) {
+        final PairCursor<L, R> cursor = new PairCursor<>();
+        final int length = Math.min(lefts.length, rights.length);
+        for (int index = 0; index < length; index++) {
+            action.accept(cursor.set(lefts[index], rights[index]));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "(" + left + ',' + right + ')';
+    }
+}
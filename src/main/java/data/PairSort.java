@@ -0,0 +1,165 @@
+package data;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+public final class PairSort {
+
+    private static final int DIGIT_BITS = 16;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int INSERTION_THRESHOLD = 32;
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private PairSort() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L, R> void parallelSort(Pair<L, R>[] pairs, Comparator<? super L> leftComparator, Comparator<? super R> rightComparator) {
+        final L[] lefts = (L[]) new Object[pairs.length];
+        final R[] rights = (R[]) new Object[pairs.length];
+        Arrays.parallelSetAll(lefts, index -> pairs[index].left());
+        Arrays.parallelSetAll(rights, index -> pairs[index].right());
+        final int[] order = new int[pairs.length];
+        Arrays.parallelSetAll(order, index -> index);
+        new IndexSort((former, latter) -> {
+            final int result = leftComparator.compare(lefts[former], lefts[latter]);
+            return result != 0 ? result : rightComparator.compare(rights[former], rights[latter]);
+        }, order, new int[pairs.length], 0, pairs.length).invoke();
+        final Pair<L, R>[] sorted = pairs.clone();
+        Arrays.parallelSetAll(pairs, index -> sorted[order[index]]);
+    }
+
+    public static <L extends Comparable<? super L>, R extends Comparable<? super R>> void parallelSort(Pair<L, R>[] pairs) {
+        parallelSort(pairs, Comparator.<L>naturalOrder(), Comparator.<R>naturalOrder());
+    }
+
+    public static <L, R> void sortByInts(Pair<L, R>[] pairs, ToIntFunction<? super L> leftKey, ToIntFunction<? super R> rightKey) {
+        final long[] lefts = new long[pairs.length];
+        final long[] rights = new long[pairs.length];
+        for (int index = 0; index < pairs.length; index++) {
+            lefts[index] = (leftKey.applyAsInt(pairs[index].left()) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+            rights[index] = (rightKey.applyAsInt(pairs[index].right()) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        }
+        sortByKeys(pairs, lefts, rights, Integer.SIZE);
+    }
+
+    public static <L, R> void sortByLongs(Pair<L, R>[] pairs, ToLongFunction<? super L> leftKey, ToLongFunction<? super R> rightKey) {
+        final long[] lefts = new long[pairs.length];
+        final long[] rights = new long[pairs.length];
+        for (int index = 0; index < pairs.length; index++) {
+            lefts[index] = leftKey.applyAsLong(pairs[index].left()) ^ Long.MIN_VALUE;
+            rights[index] = rightKey.applyAsLong(pairs[index].right()) ^ Long.MIN_VALUE;
+        }
+        sortByKeys(pairs, lefts, rights, Long.SIZE);
+    }
+
+    private static <L, R> void sortByKeys(Pair<L, R>[] pairs, long[] lefts, long[] rights, int bits) {
+        int[] order = new int[pairs.length];
+        int[] scratch = new int[pairs.length];
+        for (int index = 0; index < order.length; index++) {
+            order[index] = index;
+        }
+        final int[] counts = new int[RADIX + 1];
+        for (long[] keys : new long[][]{rights, lefts}) {
+            for (int shift = 0; shift < bits; shift += DIGIT_BITS) {
+                if (countingSort(keys, shift, order, scratch, counts)) {
+                    final int[] swap = order;
+                    order = scratch;
+                    scratch = swap;
+                }
+            }
+        }
+        final Pair<L, R>[] sorted = pairs.clone();
+        for (int index = 0; index < order.length; index++) {
+            pairs[index] = sorted[order[index]];
+        }
+    }
+
+    private static boolean countingSort(long[] keys, int shift, int[] order, int[] target, int[] counts) {
+        Arrays.fill(counts, 0);
+        for (int index : order) {
+            counts[digit(keys[index], shift) + 1]++;
+        }
+        for (int digit = 1; digit <= RADIX; digit++) {
+            if (counts[digit] == order.length) {
+                return false;
+            }
+        }
+        for (int digit = 0; digit < RADIX; digit++) {
+            counts[digit + 1] += counts[digit];
+        }
+        for (int index : order) {
+            target[counts[digit(keys[index], shift)]++] = index;
+        }
+        return true;
+    }
+
+    private static int digit(long key, int shift) {
+        return (int) (key >>> shift) & RADIX - 1;
+    }
+
+    private static void mergeSort(IntBinaryOperator comparator, int[] order, int[] scratch, int from, int to) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            for (int index = from + 1; index < to; index++) {
+                final int current = order[index];
+                int target = index;
+                while (target > from && comparator.applyAsInt(order[target - 1], current) > 0) {
+                    order[target] = order[target - 1];
+                    target--;
+                }
+                order[target] = current;
+            }
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        mergeSort(comparator, order, scratch, from, middle);
+        mergeSort(comparator, order, scratch, middle, to);
+        merge(comparator, order, scratch, from, middle, to);
+    }
+
+    private static void merge(IntBinaryOperator comparator, int[] order, int[] scratch, int from, int middle, int to) {
+        if (comparator.applyAsInt(order[middle - 1], order[middle]) <= 0) {
+            return;
+        }
+        System.arraycopy(order, from, scratch, from, to - from);
+        int left = from;
+        int right = middle;
+        int target = from;
+        while (left < middle && right < to) {
+            order[target++] = comparator.applyAsInt(scratch[right], scratch[left]) < 0 ? scratch[right++] : scratch[left++];
+        }
+        System.arraycopy(scratch, left, order, target, middle - left);
+    }
+
+    private static final class IndexSort extends RecursiveAction {
+
+        private final IntBinaryOperator comparator;
+        private final int[] order;
+        private final int[] scratch;
+        private final int from;
+        private final int to;
+
+        private IndexSort(IntBinaryOperator comparator, int[] order, int[] scratch, int from, int to) {
+            this.comparator = comparator;
+            this.order = order;
+            this.scratch = scratch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                mergeSort(comparator, order, scratch, from, to);
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new IndexSort(comparator, order, scratch, from, middle), new IndexSort(comparator, order, scratch, middle, to));
+            merge(comparator, order, scratch, from, middle, to);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package data;
+
+public interface PairView<L, R> {
+
+    L left();
+
+    R right();
+
+    default Pair<L, R> toPair() {
+        return Pair.of(left(), right());
+    }
+}
@@ -0,0 +1,355 @@
+package data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+public final class Parsers {
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final ClassValue<Constants> CONSTANTS = new ClassValue<Constants>() {
+
+        @Override
+        protected Constants computeValue(Class<?> type) {
+            return new Constants((Enum<?>[]) type.getEnumConstants());
+        }
+    };
+
+    private Parsers() {
+    }
+
+    public static Maybe<Integer> parseInt(CharSequence text) {
+        return int32(text, 0, text.length());
+    }
+
+    public static Maybe<Integer> parseInt(char[] chars, int offset, int length) {
+        return int32(chars, checked(chars.length, offset, length), length);
+    }
+
+    public static Maybe<Integer> parseInt(byte[] bytes, int offset, int length) {
+        return int32(bytes, checked(bytes.length, offset, length), length);
+    }
+
+    public static Maybe<Long> parseLong(CharSequence text) {
+        return int64(text, 0, text.length());
+    }
+
+    public static Maybe<Long> parseLong(char[] chars, int offset, int length) {
+        return int64(chars, checked(chars.length, offset, length), length);
+    }
+
+    public static Maybe<Long> parseLong(byte[] bytes, int offset, int length) {
+        return int64(bytes, checked(bytes.length, offset, length), length);
+    }
+
+    public static Maybe<Double> parseDouble(CharSequence text) {
+        return float64(text, 0, text.length());
+    }
+
+    public static Maybe<Double> parseDouble(char[] chars, int offset, int length) {
+        return float64(chars, checked(chars.length, offset, length), length);
+    }
+
+    public static Maybe<Double> parseDouble(byte[] bytes, int offset, int length) {
+        return float64(bytes, checked(bytes.length, offset, length), length);
+    }
+
+    public static Maybe<Boolean> parseBoolean(CharSequence text) {
+        return bool(text, 0, text.length());
+    }
+
+    public static Maybe<Boolean> parseBoolean(char[] chars, int offset, int length) {
+        return bool(chars, checked(chars.length, offset, length), length);
+    }
+
+    public static Maybe<Boolean> parseBoolean(byte[] bytes, int offset, int length) {
+        return bool(bytes, checked(bytes.length, offset, length), length);
+    }
+
+    public static Maybe<UUID> parseUuid(CharSequence text) {
+        return uuid(text, 0, text.length());
+    }
+
+    public static Maybe<UUID> parseUuid(char[] chars, int offset, int length) {
+        return uuid(chars, checked(chars.length, offset, length), length);
+    }
+
+    public static Maybe<UUID> parseUuid(byte[] bytes, int offset, int length) {
+        return uuid(bytes, checked(bytes.length, offset, length), length);
+    }
+
+    public static <E extends Enum<E>> Maybe<E> parseEnum(Class<E> type, CharSequence text) {
+        return constant(type, text, 0, text.length());
+    }
+
+    public static <E extends Enum<E>> Maybe<E> parseEnum(Class<E> type, char[] chars, int offset, int length) {
+        return constant(type, chars, checked(chars.length, offset, length), length);
+    }
+
+    public static <E extends Enum<E>> Maybe<E> parseEnum(Class<E> type, byte[] bytes, int offset, int length) {
+        return constant(type, bytes, checked(bytes.length, offset, length), length);
+    }
+
+    private static Maybe<Integer> int32(Object source, int offset, int length) {
+        final int end = offset + length;
+        int index = offset;
+        if (index == end) {
+            return Maybe.nothing();
+        }
+        final char first = charAt(source, index);
+        final boolean negative = first == '-';
+        if ((negative || first == '+') && ++index == end) {
+            return Maybe.nothing();
+        }
+        final int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        final int multiplyLimit = limit / 10;
+        int result = 0;
+        for (; index < end; index++) {
+            final int digit = charAt(source, index) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                return Maybe.nothing();
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return Maybe.nothing();
+            }
+            result -= digit;
+        }
+        return Maybe.just(negative ? result : -result);
+    }
+
+    private static Maybe<Long> int64(Object source, int offset, int length) {
+        final int end = offset + length;
+        int index = offset;
+        if (index == end) {
+            return Maybe.nothing();
+        }
+        final char first = charAt(source, index);
+        final boolean negative = first == '-';
+        if ((negative || first == '+') && ++index == end) {
+            return Maybe.nothing();
+        }
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; index < end; index++) {
+            final int digit = charAt(source, index) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                return Maybe.nothing();
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return Maybe.nothing();
+            }
+            result -= digit;
+        }
+        return Maybe.just(negative ? result : -result);
+    }
+
+    private static Maybe<Double> float64(Object source, int offset, int length) {
+        final int end = offset + length;
+        int index = offset;
+        if (index == end) {
+            return Maybe.nothing();
+        }
+        final char first = charAt(source, index);
+        final boolean negative = first == '-';
+        if ((negative || first == '+') && ++index == end) {
+            return Maybe.nothing();
+        }
+        if (matches(source, index, end, "NaN", false)) {
+            return Maybe.just(Double.NaN);
+        }
+        if (matches(source, index, end, "Infinity", false)) {
+            return Maybe.just(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+        }
+        long mantissa = 0;
+        int significant = 0;
+        int scale = 0;
+        boolean digits = false;
+        boolean exact = true;
+        boolean fraction = false;
+        for (; index < end; index++) {
+            final char c = charAt(source, index);
+            if (c == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                break;
+            }
+            digits = true;
+            if (significant < 18) {
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa != 0) {
+                    significant++;
+                }
+                if (fraction) {
+                    scale--;
+                }
+            } else {
+                exact = false;
+            }
+        }
+        if (!digits) {
+            return Maybe.nothing();
+        }
+        int exponent = 0;
+        if (index < end && (charAt(source, index) == 'e' || charAt(source, index) == 'E')) {
+            if (++index == end) {
+                return Maybe.nothing();
+            }
+            final char sign = charAt(source, index);
+            final boolean negativeExponent = sign == '-';
+            if ((negativeExponent || sign == '+') && ++index == end) {
+                return Maybe.nothing();
+            }
+            for (; index < end; index++) {
+                final int digit = charAt(source, index) - '0';
+                if (digit < 0 || digit > 9) {
+                    return Maybe.nothing();
+                }
+                if (exponent < 100_000) {
+                    exponent = exponent * 10 + digit;
+                }
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        if (index != end) {
+            return Maybe.nothing();
+        }
+        final int power = exponent + scale;
+        if (!exact || mantissa >= 1L << 53 || power < -22 || power > 22) {
+            return Maybe.just(Double.parseDouble(text(source, offset, length)));
+        }
+        final double value = power < 0 ? mantissa / POWERS_OF_TEN[-power] : mantissa * POWERS_OF_TEN[power];
+        return Maybe.just(negative ? -value : value);
+    }
+
+    private static Maybe<Boolean> bool(Object source, int offset, int length) {
+        final int end = offset + length;
+        if (matches(source, offset, end, "true", true)) {
+            return Maybe.just(Boolean.TRUE);
+        }
+        if (matches(source, offset, end, "false", true)) {
+            return Maybe.just(Boolean.FALSE);
+        }
+        return Maybe.nothing();
+    }
+
+    private static Maybe<UUID> uuid(Object source, int offset, int length) {
+        if (length != 36) {
+            return Maybe.nothing();
+        }
+        long most = 0;
+        long least = 0;
+        int digits = 0;
+        for (int index = 0; index < 36; index++) {
+            final char c = charAt(source, offset + index);
+            if (index == 8 || index == 13 || index == 18 || index == 23) {
+                if (c != '-') {
+                    return Maybe.nothing();
+                }
+                continue;
+            }
+            final int digit = hex(c);
+            if (digit < 0) {
+                return Maybe.nothing();
+            }
+            if (digits++ < 16) {
+                most = most << 4 | digit;
+            } else {
+                least = least << 4 | digit;
+            }
+        }
+        return Maybe.just(new UUID(most, least));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> Maybe<E> constant(Class<E> type, Object source, int offset, int length) {
+        final Constants constants = CONSTANTS.get(type);
+        int hash = 0;
+        for (int index = offset; index < offset + length; index++) {
+            hash = 31 * hash + charAt(source, index);
+        }
+        for (int candidate = 0; candidate < constants.values.length; candidate++) {
+            if (constants.hashes[candidate] == hash && matches(source, offset, offset + length, constants.values[candidate].name(), false)) {
+                return Maybe.just((E) constants.values[candidate]);
+            }
+        }
+        return Maybe.nothing();
+    }
+
+    private static char charAt(Object source, int index) {
+        if (source instanceof char[]) {
+            return ((char[]) source)[index];
+        }
+        if (source instanceof byte[]) {
+            return (char) (((byte[]) source)[index] & 0xFF);
+        }
+        return ((CharSequence) source).charAt(index);
+    }
+
+    private static boolean matches(Object source, int from, int end, String expected, boolean ignoreCase) {
+        if (end - from != expected.length()) {
+            return false;
+        }
+        for (int index = 0; index < expected.length(); index++) {
+            final char c = charAt(source, from + index);
+            final char e = expected.charAt(index);
+            if (c != e && !(ignoreCase && (c | 0x20) == e && c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hex(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static String text(Object source, int offset, int length) {
+        if (source instanceof char[]) {
+            return new String((char[]) source, offset, length);
+        }
+        if (source instanceof byte[]) {
+            return new String((byte[]) source, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        return ((CharSequence) source).subSequence(offset, offset + length).toString();
+    }
+
+    private static int checked(int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + " out of bounds for size " + size);
+        }
+        return offset;
+    }
+
+    private static final class Constants {
+
+        private final Enum<?>[] values;
+        private final int[] hashes;
+
+        private Constants(Enum<?>[] values) {
+            this.values = values;
+            this.hashes = new int[values.length];
+            for (int index = 0; index < values.length; index++) {
+                hashes[index] = values[index].name().hashCode();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package data;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AllocationsTest {
+
+    @After
+    public void reset() {
+        Allocations.reset();
+    }
+
+    @Test
+    public void instrumentationIsDisabledByDefault() {
+        Assert.assertFalse(Allocations.enabled());
+    }
+
+    @Test
+    public void disabledInstrumentationDoesNotCountCreations() {
+        Maybe.just(new Object());
+        Either.left(new Object());
+        Assert.assertEquals(0, Allocations.count(Allocations.Kind.JUST));
+        Assert.assertEquals(0, Allocations.count(Allocations.Kind.LEFT));
+    }
+
+    @Test
+    public void recordIncrementsTheCounterOfTheGivenKind() {
+        Allocations.record(Allocations.Kind.PAIR);
+        Allocations.record(Allocations.Kind.PAIR);
+        Assert.assertEquals(2, Allocations.count(Allocations.Kind.PAIR));
+    }
+
+    @Test
+    public void recordDoesNotIncrementTheCountersOfOtherKinds() {
+        Allocations.record(Allocations.Kind.PAIR);
+        Assert.assertEquals(0, Allocations.count(Allocations.Kind.RIGHT));
+    }
+
+    @Test
+    public void sampleAttributesTheCreationToTheFirstFrameOutsideTheLibrary() {
+        Allocations.sample(Allocations.Kind.JUST);
+        final String site = Allocations.sampledCallSites().keySet().iterator().next();
+        Assert.assertTrue(site, site.startsWith("JUST sample data.AllocationsTest.sampleAttributesTheCreationToTheFirstFrameOutsideTheLibrary:"));
+    }
+
+    @Test
+    public void sampleCountsRepeatedCallSitesTogether() {
+        for (int index = 0; index < 3; index++) {
+            Allocations.sample(Allocations.Kind.RIGHT);
+        }
+        Assert.assertEquals(Long.valueOf(3), Allocations.sampledCallSites().values().iterator().next());
+    }
+
+    @Test
+    public void resetClearsCountersAndSamples() {
+        Allocations.record(Allocations.Kind.LEFT);
+        Allocations.sample(Allocations.Kind.LEFT);
+        Allocations.reset();
+        Assert.assertEquals(0, Allocations.count(Allocations.Kind.LEFT));
+        Assert.assertTrue(Allocations.sampledCallSites().isEmpty());
+    }
+
+    @Test
+    public void disabledInstrumentationNeverLoadsTheFlightRecorder() throws Exception {
+        Assert.assertFalse(loadedClasses(false).contains("jdk.jfr."));
+    }
+
+    @Test
+    public void enabledInstrumentationLoadsTheFlightRecorderOnFirstRecord() throws Exception {
+        Assert.assertTrue(loadedClasses(true).contains("data.AllocationEvent"));
+    }
+
+    private static String loadedClasses(boolean enabled) throws IOException, InterruptedException {
+        final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        final Process process = new ProcessBuilder(java, "-verbose:class", "-Ddata.allocations=" + enabled,
+                "-Ddata.allocations.sampleInterval=1", "-cp", System.getProperty("java.class.path"), Creations.class.getName())
+                .redirectErrorStream(true)
+                .start();
+        final StringBuilder output = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.append(line).append('\n');
+            }
+        }
+        Assert.assertEquals(output.toString(), 0, process.waitFor());
+        return output.toString();
+    }
+
+    public static final class Creations {
+
+        public static void main(String[] arguments) {
+            Maybe.just(1);
+            Either.left(1);
+            Pair.of(1, 2);
+            Allocations.count(Allocations.Kind.JUST);
+            Allocations.sample(Allocations.Kind.JUST);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package data;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncCoalescerTest {
+
+    private static final Object KEY = new Object();
+    private static final Either<Object, Object> RESULT = Either.right(new Object());
+
+    @Test
+    public void applyCompletesWithTheResultOfTheLoader() {
+        final AsyncCoalescer<Object, Object> coalescer = new AsyncCoalescer<>(key -> CompletableFuture.completedFuture(RESULT));
+        Assert.assertEquals(RESULT, coalescer.apply(KEY).join());
+    }
+
+    @Test
+    public void callersForTheSameKeyShareThePendingLoad() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<Object> pending = new CompletableFuture<>();
+        final AsyncCoalescer<Object, Object> coalescer = new AsyncCoalescer<>(key -> {
+            calls.incrementAndGet();
+            return pending;
+        });
+        final CompletableFuture<Object> first = coalescer.apply(KEY);
+        final CompletableFuture<Object> second = coalescer.apply(KEY);
+        pending.complete(RESULT);
+        Assert.assertEquals(1, calls.get());
+        Assert.assertEquals(RESULT, first.join());
+        Assert.assertEquals(RESULT, second.join());
+    }
+
+    @Test
+    public void applyRemovesTheInFlightEntryOnceTheLoadCompletes() {
+        final CompletableFuture<Object> pending = new CompletableFuture<>();
+        final AsyncCoalescer<Object, Object> coalescer = new AsyncCoalescer<>(key -> pending);
+        coalescer.apply(KEY);
+        pending.complete(RESULT);
+        Assert.assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    public void callersAfterCompletionTriggerANewLoad() {
+        final AtomicInteger calls = new AtomicInteger();
+        final AsyncCoalescer<Object, Object> coalescer = new AsyncCoalescer<>(key -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(RESULT);
+        });
+        coalescer.apply(KEY);
+        coalescer.apply(KEY);
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void applyCompletesExceptionallyWhenTheLoaderThrows() {
+        final AsyncCoalescer<Object, Object> coalescer = new AsyncCoalescer<>(key -> {
+            throw new IllegalStateException();
+        });
+        Assert.assertTrue(coalescer.apply(KEY).isCompletedExceptionally());
+    }
+
+    @Test
+    public void loaderReturningNullFailsTheCallAndClearsTheKey() {
+        final AtomicInteger calls = new AtomicInteger();
+        final AsyncCoalescer<Object, Object> coalescer = new AsyncCoalescer<>(key -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        Assert.assertTrue(coalescer.apply(KEY).isCompletedExceptionally());
+        Assert.assertEquals(0, coalescer.inFlight());
+        Assert.assertTrue(coalescer.apply(KEY).isCompletedExceptionally());
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void cancellingOneCallerDoesNotCancelTheOthers() {
+        final CompletableFuture<Object> pending = new CompletableFuture<>();
+        final AsyncCoalescer<Object, Object> coalescer = new AsyncCoalescer<>(key -> pending);
+        final CompletableFuture<Object> first = coalescer.apply(KEY);
+        final CompletableFuture<Object> second = coalescer.apply(KEY);
+        first.cancel(false);
+        pending.complete(RESULT);
+        Assert.assertEquals(RESULT, second.join());
+    }
+}
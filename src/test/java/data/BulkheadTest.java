@@ -0,0 +1,148 @@
+package data;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BulkheadTest {
+
+    private static final Object VALUE = new Object();
+
+    @Test
+    public void executeReturnsTheResultOfTheTask() {
+        final Either<Object, Object> result = Either.right(VALUE);
+        Assert.assertEquals(result, Bulkhead.of(1, 0, 0, TimeUnit.MILLISECONDS).execute(() -> result, rejection -> rejection));
+    }
+
+    @Test
+    public void executeReleasesTheSlotOnceTheTaskReturns() {
+        final Bulkhead bulkhead = Bulkhead.of(1, 0, 0, TimeUnit.MILLISECONDS);
+        bulkhead.execute(() -> Either.right(VALUE), rejection -> rejection);
+        Assert.assertEquals(0, bulkhead.running());
+    }
+
+    @Test
+    public void executeReleasesTheSlotWhenTheTaskThrows() {
+        final Bulkhead bulkhead = Bulkhead.of(1, 0, 0, TimeUnit.MILLISECONDS);
+        try {
+            bulkhead.execute(() -> {
+                throw new IllegalStateException();
+            }, rejection -> rejection);
+        } catch (IllegalStateException expected) {
+        }
+        Assert.assertEquals(0, bulkhead.running());
+    }
+
+    @Test
+    public void executeRejectsWithQueueFullWhenNoSlotAndNoQueueIsAvailable() throws InterruptedException {
+        final Bulkhead bulkhead = Bulkhead.of(1, 0, 0, TimeUnit.MILLISECONDS);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread occupant = occupy(bulkhead, release);
+        try {
+            Assert.assertEquals(Either.left(Bulkhead.Rejection.QUEUE_FULL), bulkhead.execute(() -> Either.right(VALUE), rejection -> rejection));
+        } finally {
+            release.countDown();
+            occupant.join();
+        }
+    }
+
+    @Test
+    public void executeRejectsWithTimeoutWhenNoSlotFreesUpInTime() throws InterruptedException {
+        final Bulkhead bulkhead = Bulkhead.of(1, 1, 10, TimeUnit.MILLISECONDS);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread occupant = occupy(bulkhead, release);
+        try {
+            Assert.assertEquals(Either.left(Bulkhead.Rejection.TIMEOUT), bulkhead.execute(() -> Either.right(VALUE), rejection -> rejection));
+        } finally {
+            release.countDown();
+            occupant.join();
+        }
+    }
+
+    @Test
+    public void queuedTaskRunsOnceASlotFreesUp() throws InterruptedException {
+        final Bulkhead bulkhead = Bulkhead.of(1, 1, 10, TimeUnit.SECONDS);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread occupant = occupy(bulkhead, release);
+        final Thread releaser = new Thread(() -> {
+            while (bulkhead.queued() == 0) {
+                Thread.yield();
+            }
+            release.countDown();
+        });
+        releaser.start();
+        try {
+            Assert.assertEquals(Either.right(VALUE), bulkhead.execute(() -> Either.right(VALUE), rejection -> rejection));
+        } finally {
+            release.countDown();
+            occupant.join();
+            releaser.join();
+        }
+    }
+
+    @Test
+    public void adaptiveBulkheadLowersItsLimitWhenTheLatencyExceedsTheTarget() {
+        final Bulkhead bulkhead = Bulkhead.adaptive(4, 0, 0, 0, TimeUnit.NANOSECONDS);
+        bulkhead.execute(() -> {
+            sleep(1);
+            return Either.right(VALUE);
+        }, rejection -> rejection);
+        Assert.assertEquals(3, bulkhead.limit());
+    }
+
+    @Test
+    public void adaptiveBulkheadNeverLowersItsLimitBelowOne() {
+        final Bulkhead bulkhead = Bulkhead.adaptive(2, 0, 0, 0, TimeUnit.NANOSECONDS);
+        for (int index = 0; index < 20; index++) {
+            bulkhead.execute(() -> {
+                sleep(1);
+                return Either.right(VALUE);
+            }, rejection -> rejection);
+        }
+        Assert.assertEquals(1, bulkhead.limit());
+    }
+
+    @Test
+    public void fixedBulkheadKeepsItsLimit() {
+        final Bulkhead bulkhead = Bulkhead.of(4, 0, 0, TimeUnit.MILLISECONDS);
+        bulkhead.execute(() -> {
+            sleep(1);
+            return Either.right(VALUE);
+        }, rejection -> rejection);
+        Assert.assertEquals(4, bulkhead.limit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroConcurrencyIsRejected() {
+        Bulkhead.of(0, 0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    private static Thread occupy(Bulkhead bulkhead, CountDownLatch release) throws InterruptedException {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final Thread occupant = new Thread(() -> bulkhead.execute(() -> {
+            entered.countDown();
+            await(release);
+            return Either.right(VALUE);
+        }, rejection -> rejection));
+        occupant.start();
+        entered.await();
+        return occupant;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package data;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CacheTest {
+
+    private static final Object KEY = new Object();
+    private static final Object VALUE = new Object();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void getReturnsNullWhenTheKeyIsMissing() {
+        final Cache<Object, Object> cache = new Cache<>(1, Long.MAX_VALUE, clock::get);
+        Assert.assertNull(cache.get(KEY));
+    }
+
+    @Test
+    public void getReturnsTheValuePreviouslyPut() {
+        final Cache<Object, Object> cache = new Cache<>(1, Long.MAX_VALUE, clock::get);
+        cache.put(KEY, VALUE);
+        Assert.assertEquals(VALUE, cache.get(KEY));
+    }
+
+    @Test
+    public void getReturnsNullOnceTheEntryHasExpired() {
+        final Cache<Object, Object> cache = new Cache<>(1, 10, clock::get);
+        cache.put(KEY, VALUE);
+        clock.set(10);
+        Assert.assertNull(cache.get(KEY));
+    }
+
+    @Test
+    public void getReturnsTheValueBeforeTheEntryExpires() {
+        final Cache<Object, Object> cache = new Cache<>(1, 10, clock::get);
+        cache.put(KEY, VALUE);
+        clock.set(9);
+        Assert.assertEquals(VALUE, cache.get(KEY));
+    }
+
+    @Test
+    public void putEvictsTheLeastRecentlyUsedEntryWhenTheCapacityIsExceeded() {
+        final Cache<Object, Object> cache = new Cache<>(2, Long.MAX_VALUE, clock::get);
+        cache.put(1, VALUE);
+        cache.put(2, VALUE);
+        cache.get(1);
+        cache.put(3, VALUE);
+        Assert.assertNull(cache.get(2));
+    }
+
+    @Test
+    public void putKeepsTheRecentlyUsedEntriesWhenTheCapacityIsExceeded() {
+        final Cache<Object, Object> cache = new Cache<>(2, Long.MAX_VALUE, clock::get);
+        cache.put(1, VALUE);
+        cache.put(2, VALUE);
+        cache.get(1);
+        cache.put(3, VALUE);
+        Assert.assertEquals(VALUE, cache.get(1));
+    }
+
+    @Test
+    public void sizeNeverExceedsTheCapacity() {
+        final Cache<Object, Object> cache = new Cache<>(1000, Long.MAX_VALUE, clock::get);
+        for (int key = 0; key < 10000; key++) {
+            cache.put(key, VALUE);
+        }
+        Assert.assertTrue(cache.size() <= 1000);
+    }
+
+    @Test
+    public void cacheWithZeroCapacityStoresNothing() {
+        final Cache<Object, Object> cache = new Cache<>(0, Long.MAX_VALUE, clock::get);
+        cache.put(KEY, VALUE);
+        Assert.assertNull(cache.get(KEY));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeCapacityIsRejected() {
+        new Cache<>(-1, Long.MAX_VALUE, clock::get);
+    }
+}
@@ -0,0 +1,121 @@
+package data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CoalescerTest {
+
+    private static final Object KEY = new Object();
+    private static final Either<Object, Object> RESULT = Either.left(new Object());
+
+    @Test
+    public void applyReturnsTheResultOfTheLoader() {
+        Assert.assertEquals(RESULT, new Coalescer<>(key -> RESULT).apply(KEY));
+    }
+
+    @Test
+    public void applyPassesTheKeyToTheLoader() {
+        Assert.assertEquals(KEY, new Coalescer<>(key -> key).apply(KEY));
+    }
+
+    @Test
+    public void applyRemovesTheInFlightEntryOnceTheLoaderReturns() {
+        final Coalescer<Object, Object> coalescer = new Coalescer<>(key -> RESULT);
+        coalescer.apply(KEY);
+        Assert.assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    public void applyRemovesTheInFlightEntryWhenTheLoaderThrows() {
+        final Coalescer<Object, Object> coalescer = new Coalescer<>(key -> {
+            throw new IllegalStateException();
+        });
+        try {
+            coalescer.apply(KEY);
+        } catch (IllegalStateException expected) {
+        }
+        Assert.assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    public void concurrentCallersForTheSameKeyShareOneLoaderCall() throws InterruptedException {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Coalescer<Object, Object> coalescer = new Coalescer<>(key -> {
+            calls.incrementAndGet();
+            entered.countDown();
+            await(release);
+            return RESULT;
+        });
+        final List<Object> results = new ArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (int index = 0; index < 8; index++) {
+            threads.add(new Thread(() -> {
+                final Object result = coalescer.apply(KEY);
+                synchronized (results) {
+                    results.add(result);
+                }
+            }));
+        }
+        threads.get(0).start();
+        entered.await();
+        for (Thread thread : threads.subList(1, threads.size())) {
+            thread.start();
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.yield();
+            }
+        }
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(1, calls.get());
+        for (Object result : results) {
+            Assert.assertEquals(RESULT, result);
+        }
+    }
+
+    @Test
+    public void waitersReceiveTheExceptionThrownByTheLoader() throws InterruptedException {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Coalescer<Object, Object> coalescer = new Coalescer<>(key -> {
+            entered.countDown();
+            await(release);
+            throw new IllegalStateException();
+        });
+        final AtomicInteger failures = new AtomicInteger();
+        final Runnable call = () -> {
+            try {
+                coalescer.apply(KEY);
+            } catch (IllegalStateException expected) {
+                failures.incrementAndGet();
+            }
+        };
+        final Thread leader = new Thread(call);
+        final Thread waiter = new Thread(call);
+        leader.start();
+        entered.await();
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        release.countDown();
+        leader.join();
+        waiter.join();
+        Assert.assertEquals(2, failures.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
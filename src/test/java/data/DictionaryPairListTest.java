@@ -0,0 +1,126 @@
+package data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DictionaryPairListTest {
+
+    private final DictionaryPairList<String, Integer> pairs = new DictionaryPairList<>(2);
+
+    @Test
+    public void getRebuildsTheAddedPair() {
+        pairs.add("eu", 1);
+        pairs.add(Pair.of("us", 2));
+        Assert.assertEquals(Pair.of("eu", 1), pairs.get(0));
+        Assert.assertEquals(Pair.of("us", 2), pairs.get(1));
+    }
+
+    @Test
+    public void listEqualsTheListOfTheAddedPairs() {
+        pairs.add("eu", 1);
+        pairs.add("us", 2);
+        pairs.add("eu", 3);
+        Assert.assertEquals(Arrays.asList(Pair.of("eu", 1), Pair.of("us", 2), Pair.of("eu", 3)), pairs);
+    }
+
+    @Test
+    public void repeatedLeftComponentsShareOneCode() {
+        pairs.add("eu", 1);
+        pairs.add("us", 2);
+        pairs.add("eu", 3);
+        Assert.assertEquals(2, pairs.dictionarySize());
+        Assert.assertEquals(pairs.code(0), pairs.code(2));
+        Assert.assertNotEquals(pairs.code(0), pairs.code(1));
+    }
+
+    @Test
+    public void decodeReturnsTheLeftComponentOfTheCode() {
+        pairs.add("eu", 1);
+        Assert.assertEquals("eu", pairs.decode(pairs.code(0)));
+    }
+
+    @Test
+    public void codeOfAnUnknownLeftComponentIsNegative() {
+        Assert.assertEquals(-1, pairs.codeOf("eu"));
+    }
+
+    @Test
+    public void nullLeftComponentsAreEncoded() {
+        pairs.add(null, 1);
+        Assert.assertEquals(Pair.of(null, 1), pairs.get(0));
+    }
+
+    @Test
+    public void scanPassesEveryRightWithItsCode() {
+        pairs.add("eu", 1);
+        pairs.add("us", 2);
+        final List<Pair<Integer, Integer>> scanned = new ArrayList<>();
+        pairs.scan((right, code) -> scanned.add(Pair.of(code, right)));
+        Assert.assertEquals(Arrays.asList(Pair.of(pairs.codeOf("eu"), 1), Pair.of(pairs.codeOf("us"), 2)), scanned);
+    }
+
+    @Test
+    public void scanOfALeftComponentPassesOnlyItsRights() {
+        pairs.add("eu", 1);
+        pairs.add("us", 2);
+        pairs.add("eu", 3);
+        final List<Integer> scanned = new ArrayList<>();
+        pairs.scan("eu", scanned::add);
+        Assert.assertEquals(Arrays.asList(1, 3), scanned);
+    }
+
+    @Test
+    public void scanOfAnUnknownLeftComponentPassesNothing() {
+        pairs.add("eu", 1);
+        pairs.scan("us", right -> Assert.fail());
+    }
+
+    @Test
+    public void cursorVisitsEveryPairThroughOneView() {
+        pairs.add("eu", 1);
+        pairs.add("us", 2);
+        final Iterator<PairView<String, Integer>> cursor = pairs.cursor();
+        final PairView<String, Integer> first = cursor.next();
+        Assert.assertEquals(Pair.of("eu", 1), first.toPair());
+        Assert.assertSame(first, cursor.next());
+        Assert.assertEquals(Pair.of("us", 2), first.toPair());
+        Assert.assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    public void countByCodeCountsThePairsOfEachCode() {
+        pairs.add("eu", 1);
+        pairs.add("us", 2);
+        pairs.add("eu", 3);
+        final int[] counts = pairs.countByCode();
+        Assert.assertEquals(2, counts[pairs.codeOf("eu")]);
+        Assert.assertEquals(1, counts[pairs.codeOf("us")]);
+    }
+
+    @Test
+    public void groupByAggregatesTheRightsOfEachLeftComponent() {
+        pairs.add("eu", 1);
+        pairs.add("us", 2);
+        pairs.add("eu", 3);
+        final Map<String, AtomicLong> sums = pairs.groupBy(AtomicLong::new, AtomicLong::addAndGet);
+        Assert.assertEquals(4, sums.get("eu").get());
+        Assert.assertEquals(2, sums.get("us").get());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getPastTheEndThrows() {
+        pairs.add("eu", 1);
+        pairs.get(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeCapacityIsRejected() {
+        new DictionaryPairList<>(-1);
+    }
+}
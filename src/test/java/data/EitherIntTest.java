@@ -0,0 +1,159 @@
+package data;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EitherIntTest {
+
+    private static final Object VALUE = new Object();
+
+    private final EitherInt<Object> left = EitherInt.left(VALUE);
+    private final EitherInt<Object> right = EitherInt.right(42);
+
+    @Test
+    public void foldOnLeftReturnsTheResultOfTheLeftMapper() {
+        Assert.assertEquals(VALUE, left.fold(value -> value, value -> null));
+    }
+
+    @Test
+    public void foldOnRightPassesThePrimitiveValueToTheRightMapper() {
+        Assert.assertEquals("42", right.fold(value -> null, String::valueOf));
+    }
+
+    @Test
+    public void foldToIntOnRightReturnsTheResultOfTheRightMapper() {
+        Assert.assertEquals(43, right.foldToInt(value -> -1, value -> value + 1));
+    }
+
+    @Test
+    public void foldToIntOnLeftReturnsTheResultOfTheLeftMapper() {
+        Assert.assertEquals(-1, left.foldToInt(value -> -1, value -> value + 1));
+    }
+
+    @Test
+    public void applyOnLeftPassesTheValueToTheLeftAction() {
+        final AtomicReference<Object> capture = new AtomicReference<>();
+        left.apply(capture::set, value -> Assert.fail());
+        Assert.assertEquals(VALUE, capture.get());
+    }
+
+    @Test
+    public void applyOnRightPassesTheValueToTheRightAction() {
+        final AtomicReference<Object> capture = new AtomicReference<>();
+        right.apply(value -> Assert.fail(), capture::set);
+        Assert.assertEquals(42, capture.get());
+    }
+
+    @Test
+    public void leftIsLeft() {
+        Assert.assertTrue(left.isLeft());
+        Assert.assertFalse(left.isRight());
+    }
+
+    @Test
+    public void rightIsRight() {
+        Assert.assertTrue(right.isRight());
+        Assert.assertFalse(right.isLeft());
+    }
+
+    @Test
+    public void mapOnRightReturnsRightTheResultOfTheMapper() {
+        Assert.assertEquals(EitherInt.right(84), right.map(value -> value * 2));
+    }
+
+    @Test
+    public void mapOnRightReturnsTheRightItselfWhenTheValueIsUnchanged() {
+        Assert.assertSame(right, right.map(value -> value));
+    }
+
+    @Test
+    public void mapOnLeftReturnsTheLeftItself() {
+        Assert.assertSame(left, left.map(value -> value * 2));
+    }
+
+    @Test
+    public void flatMapOnRightReturnsTheResultOfTheMapper() {
+        Assert.assertEquals(left, right.flatMap(value -> left));
+    }
+
+    @Test
+    public void flatMapOnLeftReturnsTheLeftItself() {
+        Assert.assertSame(left, left.flatMap(value -> right));
+    }
+
+    @Test
+    public void mapToObjOnRightReturnsRightTheResultOfTheMapper() {
+        Assert.assertEquals(Either.right("42"), right.mapToObj(String::valueOf));
+    }
+
+    @Test
+    public void mapToObjOnLeftReturnsLeftTheContainedValue() {
+        Assert.assertEquals(Either.left(VALUE), left.mapToObj(String::valueOf));
+    }
+
+    @Test
+    public void getOrElseOnRightReturnsTheContainedValue() {
+        Assert.assertEquals(42, right.getOrElse(0));
+    }
+
+    @Test
+    public void getOrElseOnLeftReturnsTheAlternative() {
+        Assert.assertEquals(0, left.getOrElse(0));
+    }
+
+    @Test
+    public void boxedRightEqualsTheEquivalentEither() {
+        Assert.assertEquals(Either.right(42), right.boxed());
+    }
+
+    @Test
+    public void boxedLeftEqualsTheEquivalentEither() {
+        Assert.assertEquals(Either.left(VALUE), left.boxed());
+    }
+
+    @Test
+    public void rightsWithTheSameValueAreEqual() {
+        Assert.assertEquals(EitherInt.right(42), right);
+        Assert.assertEquals(EitherInt.right(42).hashCode(), right.hashCode());
+    }
+
+    @Test
+    public void rightHashesLikeTheBoxedEither() {
+        Assert.assertEquals(right.boxed().hashCode(), right.hashCode());
+    }
+
+    @Test
+    public void leftCodeReturnsTheSameInstanceForTheSameConstant() {
+        Assert.assertSame(EitherInt.leftCode(TimeUnit.SECONDS), EitherInt.leftCode(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void leftCodeReturnsLeftTheConstant() {
+        Assert.assertEquals(EitherInt.left(TimeUnit.SECONDS), EitherInt.leftCode(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void leftCodeReturnsTheSameInstanceForTheSameSmallIntCode() {
+        Assert.assertSame(EitherInt.leftCode(404), EitherInt.leftCode(404));
+    }
+
+    @Test
+    public void leftCodeReturnsLeftTheIntCode() {
+        Assert.assertEquals(EitherInt.left(404), EitherInt.leftCode(404));
+        Assert.assertEquals(EitherInt.left(-1), EitherInt.leftCode(-1));
+        Assert.assertEquals(EitherInt.left(1 << 20), EitherInt.leftCode(1 << 20));
+    }
+
+    @Test
+    public void boxedLeftCodeIsTheSharedEitherLeftCode() {
+        Assert.assertSame(Either.leftCode(TimeUnit.SECONDS), EitherInt.leftCode(TimeUnit.SECONDS).boxed());
+        Assert.assertSame(Either.leftCode(404), EitherInt.leftCode(404).boxed());
+    }
+
+    @Test
+    public void mapToObjOfALeftCodeIsTheSharedEitherLeftCode() {
+        Assert.assertSame(Either.leftCode(404), EitherInt.leftCode(404).mapToObj(value -> value));
+    }
+}
@@ -0,0 +1,149 @@
+package data;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class EitherJournalTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replayReturnsTheAppendedOutcomesInOrder() throws IOException {
+        try (EitherJournal<String, Long> journal = open(4096)) {
+            journal.append(Either.right(1L));
+            journal.append(Either.left("failed"));
+            journal.append(Either.right(3L));
+            Assert.assertEquals(Arrays.asList(Either.right(1L), Either.left("failed"), Either.right(3L)), drain(journal.replay()));
+        }
+    }
+
+    @Test
+    public void replayOfAnEmptyJournalHasNoElements() throws IOException {
+        try (EitherJournal<String, Long> journal = open(4096)) {
+            Assert.assertFalse(journal.replay().hasNext());
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void nextPastTheEndOfTheReplayThrows() throws IOException {
+        try (EitherJournal<String, Long> journal = open(4096)) {
+            journal.replay().next();
+        }
+    }
+
+    @Test
+    public void replayDoesNotSeeOutcomesAppendedAfterItStarted() throws IOException {
+        try (EitherJournal<String, Long> journal = open(4096)) {
+            journal.append(Either.right(1L));
+            final Iterator<Either<String, Long>> replay = journal.replay();
+            journal.append(Either.right(2L));
+            Assert.assertEquals(Arrays.asList(Either.right(1L)), drain(replay));
+        }
+    }
+
+    @Test
+    public void appendRollsToANewSegmentWhenTheCurrentOneIsFull() throws IOException {
+        try (EitherJournal<String, Long> journal = open(8 + 13 * 2)) {
+            for (long value = 0; value < 5; value++) {
+                journal.append(Either.right(value));
+            }
+            Assert.assertArrayEquals(new int[]{2, 2, 1}, journal.segmentCounts());
+            Assert.assertEquals(5, journal.size());
+            Assert.assertEquals(Arrays.asList(Either.right(0L), Either.right(1L), Either.right(2L), Either.right(3L), Either.right(4L)), drain(journal.replay()));
+        }
+    }
+
+    @Test
+    public void reopenedJournalReplaysEarlierOutcomesAndKeepsAppending() throws IOException {
+        try (EitherJournal<String, Long> journal = open(64)) {
+            journal.append(Either.left("first"));
+            journal.append(Either.right(2L));
+            journal.append(Either.left("third"));
+        }
+        try (EitherJournal<String, Long> journal = open(64)) {
+            journal.append(Either.right(4L));
+            Assert.assertEquals(Arrays.asList(Either.left("first"), Either.right(2L), Either.left("third"), Either.right(4L)), drain(journal.replay()));
+            Assert.assertEquals(4, journal.size());
+        }
+    }
+
+    @Test
+    public void reopenedJournalKeepsTheCountsOfEveryRolledSegment() throws IOException {
+        try (EitherJournal<String, Long> journal = open(8 + 13 * 2)) {
+            for (long value = 0; value < 3; value++) {
+                journal.append(Either.right(value));
+            }
+        }
+        try (EitherJournal<String, Long> journal = open(8 + 13 * 2)) {
+            journal.append(Either.right(3L));
+            journal.append(Either.right(4L));
+            Assert.assertArrayEquals(new int[]{2, 2, 1}, journal.segmentCounts());
+            Assert.assertEquals(5, journal.size());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void appendAfterCloseIsRejected() throws IOException {
+        final EitherJournal<String, Long> journal = open(4096);
+        journal.close();
+        journal.append(Either.right(1L));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void flushAfterCloseIsRejected() throws IOException {
+        final EitherJournal<String, Long> journal = open(4096);
+        journal.close();
+        journal.flush();
+    }
+
+    @Test
+    public void closingTwiceIsHarmless() throws IOException {
+        final EitherJournal<String, Long> journal = open(4096);
+        journal.close();
+        journal.close();
+    }
+
+    @Test
+    public void appendEncodesValuesLargerThanTheScratchBuffer() throws IOException {
+        final char[] chars = new char[10000];
+        Arrays.fill(chars, 'x');
+        final String large = new String(chars);
+        try (EitherJournal<String, Long> journal = open(1 << 16)) {
+            journal.append(Either.left(large));
+            Assert.assertEquals(Arrays.asList(Either.left(large)), drain(journal.replay()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void appendRejectsARecordLargerThanASegment() throws IOException {
+        try (EitherJournal<String, Long> journal = open(32)) {
+            journal.append(Either.left("this message is too long for the segment"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooSmallSegmentSizeIsRejected() throws IOException {
+        open(8);
+    }
+
+    private EitherJournal<String, Long> open(int segmentSize) throws IOException {
+        final Path directory = folder.getRoot().toPath().resolve("journal");
+        return EitherJournal.open(directory, segmentSize, EitherJournal.Codec.string(), EitherJournal.Codec.int64());
+    }
+
+    private static <T> List<T> drain(Iterator<T> iterator) {
+        final List<T> values = new ArrayList<>();
+        iterator.forEachRemaining(values::add);
+        return values;
+    }
+}
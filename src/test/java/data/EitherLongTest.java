@@ -0,0 +1,159 @@
+package data;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EitherLongTest {
+
+    private static final Object VALUE = new Object();
+
+    private final EitherLong<Object> left = EitherLong.left(VALUE);
+    private final EitherLong<Object> right = EitherLong.right(42L);
+
+    @Test
+    public void foldOnLeftReturnsTheResultOfTheLeftMapper() {
+        Assert.assertEquals(VALUE, left.fold(value -> value, value -> null));
+    }
+
+    @Test
+    public void foldOnRightPassesThePrimitiveValueToTheRightMapper() {
+        Assert.assertEquals("42", right.fold(value -> null, String::valueOf));
+    }
+
+    @Test
+    public void foldToLongOnRightReturnsTheResultOfTheRightMapper() {
+        Assert.assertEquals(43L, right.foldToLong(value -> -1L, value -> value + 1));
+    }
+
+    @Test
+    public void foldToLongOnLeftReturnsTheResultOfTheLeftMapper() {
+        Assert.assertEquals(-1L, left.foldToLong(value -> -1L, value -> value + 1));
+    }
+
+    @Test
+    public void applyOnLeftPassesTheValueToTheLeftAction() {
+        final AtomicReference<Object> capture = new AtomicReference<>();
+        left.apply(capture::set, value -> Assert.fail());
+        Assert.assertEquals(VALUE, capture.get());
+    }
+
+    @Test
+    public void applyOnRightPassesTheValueToTheRightAction() {
+        final AtomicReference<Object> capture = new AtomicReference<>();
+        right.apply(value -> Assert.fail(), capture::set);
+        Assert.assertEquals(42L, capture.get());
+    }
+
+    @Test
+    public void leftIsLeft() {
+        Assert.assertTrue(left.isLeft());
+        Assert.assertFalse(left.isRight());
+    }
+
+    @Test
+    public void rightIsRight() {
+        Assert.assertTrue(right.isRight());
+        Assert.assertFalse(right.isLeft());
+    }
+
+    @Test
+    public void mapOnRightReturnsRightTheResultOfTheMapper() {
+        Assert.assertEquals(EitherLong.right(84L), right.map(value -> value * 2));
+    }
+
+    @Test
+    public void mapOnRightReturnsTheRightItselfWhenTheValueIsUnchanged() {
+        Assert.assertSame(right, right.map(value -> value));
+    }
+
+    @Test
+    public void mapOnLeftReturnsTheLeftItself() {
+        Assert.assertSame(left, left.map(value -> value * 2));
+    }
+
+    @Test
+    public void flatMapOnRightReturnsTheResultOfTheMapper() {
+        Assert.assertEquals(left, right.flatMap(value -> left));
+    }
+
+    @Test
+    public void flatMapOnLeftReturnsTheLeftItself() {
+        Assert.assertSame(left, left.flatMap(value -> right));
+    }
+
+    @Test
+    public void mapToObjOnRightReturnsRightTheResultOfTheMapper() {
+        Assert.assertEquals(Either.right("42"), right.mapToObj(String::valueOf));
+    }
+
+    @Test
+    public void mapToObjOnLeftReturnsLeftTheContainedValue() {
+        Assert.assertEquals(Either.left(VALUE), left.mapToObj(String::valueOf));
+    }
+
+    @Test
+    public void getOrElseOnRightReturnsTheContainedValue() {
+        Assert.assertEquals(42L, right.getOrElse(0L));
+    }
+
+    @Test
+    public void getOrElseOnLeftReturnsTheAlternative() {
+        Assert.assertEquals(0L, left.getOrElse(0L));
+    }
+
+    @Test
+    public void boxedRightEqualsTheEquivalentEither() {
+        Assert.assertEquals(Either.right(42L), right.boxed());
+    }
+
+    @Test
+    public void boxedLeftEqualsTheEquivalentEither() {
+        Assert.assertEquals(Either.left(VALUE), left.boxed());
+    }
+
+    @Test
+    public void rightsWithTheSameValueAreEqual() {
+        Assert.assertEquals(EitherLong.right(42L), right);
+        Assert.assertEquals(EitherLong.right(42L).hashCode(), right.hashCode());
+    }
+
+    @Test
+    public void rightHashesLikeTheBoxedEither() {
+        Assert.assertEquals(right.boxed().hashCode(), right.hashCode());
+    }
+
+    @Test
+    public void leftCodeReturnsTheSameInstanceForTheSameConstant() {
+        Assert.assertSame(EitherLong.leftCode(TimeUnit.SECONDS), EitherLong.leftCode(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void leftCodeReturnsLeftTheConstant() {
+        Assert.assertEquals(EitherLong.left(TimeUnit.SECONDS), EitherLong.leftCode(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void leftCodeReturnsTheSameInstanceForTheSameSmallIntCode() {
+        Assert.assertSame(EitherLong.leftCode(404), EitherLong.leftCode(404));
+    }
+
+    @Test
+    public void leftCodeReturnsLeftTheIntCode() {
+        Assert.assertEquals(EitherLong.left(404), EitherLong.leftCode(404));
+        Assert.assertEquals(EitherLong.left(-1), EitherLong.leftCode(-1));
+        Assert.assertEquals(EitherLong.left(1 << 20), EitherLong.leftCode(1 << 20));
+    }
+
+    @Test
+    public void boxedLeftCodeIsTheSharedEitherLeftCode() {
+        Assert.assertSame(Either.leftCode(TimeUnit.SECONDS), EitherLong.leftCode(TimeUnit.SECONDS).boxed());
+        Assert.assertSame(Either.leftCode(404), EitherLong.leftCode(404).boxed());
+    }
+
+    @Test
+    public void mapToObjOfALeftCodeIsTheSharedEitherLeftCode() {
+        Assert.assertSame(Either.leftCode(404), EitherLong.leftCode(404).mapToObj(value -> value));
+    }
+}
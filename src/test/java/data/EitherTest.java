@@ -1,6 +1,22 @@
 package data;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -279,4 +295,431 @@ public class EitherTest {
     public void rightIsNotEqualToLeftContainingTheSameValue() {
         Assert.assertFalse(right.equals(left));
     }
+
+    @Test
+    public void memoizedFunctionReturnsTheResultOfTheFunction() {
+        Assert.assertEquals(left, Either.memoize(key -> left, 10).apply(VALUE));
+    }
+
+    @Test
+    public void memoizedFunctionCallsTheFunctionOnceForRepeatedRightLookups() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Object, Either<Object, Object>> memoized = Either.memoize(key -> {
+            calls.incrementAndGet();
+            return right;
+        }, 10);
+        memoized.apply(VALUE);
+        memoized.apply(VALUE);
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void memoizedFunctionCallsTheFunctionOnceForRepeatedLeftLookups() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Object, Either<Object, Object>> memoized = Either.memoize(key -> {
+            calls.incrementAndGet();
+            return left;
+        }, 10);
+        memoized.apply(VALUE);
+        memoized.apply(VALUE);
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void memoizedFunctionDoesNotCacheLeftsWhenTheirBudgetIsZero() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Object, Either<Object, Object>> memoized = Either.memoize(key -> {
+            calls.incrementAndGet();
+            return left;
+        }, 10, 1, 0, 1, TimeUnit.HOURS);
+        memoized.apply(VALUE);
+        memoized.apply(VALUE);
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void coalescedFunctionReturnsTheResultOfTheLoader() {
+        Assert.assertEquals(left, Either.coalesce(key -> left).apply(VALUE));
+    }
+
+    @Test
+    public void asyncCoalescedFunctionCompletesWithTheResultOfTheLoader() {
+        Assert.assertEquals(right, Either.coalesceAsync(key -> CompletableFuture.completedFuture(right)).apply(VALUE).join());
+    }
+
+    @Test
+    public void traverseBatchedReturnsRightTheValuesInInputOrder() {
+        final Either<Object, List<String>> result = Either.traverseBatched(Arrays.asList(3, 1, 2, 3), keys -> rights(keys), 2);
+        Assert.assertEquals(Either.right(Arrays.asList("3", "1", "2", "3")), result);
+    }
+
+    @Test
+    public void traverseBatchedPassesDistinctKeysInBatchesOfTheGivenSize() {
+        final List<List<Integer>> batches = new ArrayList<>();
+        Either.traverseBatched(Arrays.asList(1, 2, 1, 3), keys -> {
+            batches.add(new ArrayList<>(keys));
+            return rights(keys);
+        }, 2);
+        Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3)), batches);
+    }
+
+    @Test
+    public void traverseBatchedReturnsTheFirstLeftInInputOrder() {
+        final Either<Object, List<Object>> result = Either.traverseBatched(Arrays.asList(1, 2, 3), keys -> {
+            final Map<Integer, Either<Object, Object>> results = new HashMap<>();
+            keys.forEach(key -> results.put(key, key == 1 ? Either.right(key) : Either.left(key)));
+            return results;
+        }, 3);
+        Assert.assertEquals(Either.left(2), result);
+    }
+
+    @Test
+    public void traverseBatchedStopsLoadingAfterTheFirstBatchContainingALeft() {
+        final AtomicInteger calls = new AtomicInteger();
+        Either.traverseBatched(Arrays.asList(1, 2, 3), keys -> {
+            calls.incrementAndGet();
+            final Map<Integer, Either<Object, Object>> results = new HashMap<>();
+            keys.forEach(key -> results.put(key, Either.left(key)));
+            return results;
+        }, 1);
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void traverseBatchedThrowsWhenTheLoaderOmitsAKey() {
+        Either.traverseBatched(Arrays.asList(1, 2), keys -> new HashMap<Integer, Either<Object, Object>>(), 2);
+    }
+
+    private static Map<Integer, Either<Object, String>> rights(List<Integer> keys) {
+        final Map<Integer, Either<Object, String>> results = new HashMap<>();
+        keys.forEach(key -> results.put(key, Either.right(String.valueOf(key))));
+        return results;
+    }
+
+    @Test
+    public void rightsIteratorYieldsTheRightValuesInOrder() {
+        final Iterator<Object> rights = Either.rights(Arrays.<Either<Object, Object>>asList(Either.right(1), Either.left(2), Either.right(3)).iterator(), value -> {
+        });
+        final List<Object> values = new ArrayList<>();
+        rights.forEachRemaining(values::add);
+        Assert.assertEquals(Arrays.asList(1, 3), values);
+    }
+
+    @Test
+    public void rightsIteratorPassesTheLeftValuesToTheSink() {
+        final List<Object> deadLetters = new ArrayList<>();
+        Either.rights(Arrays.<Either<Object, Object>>asList(Either.left(1), Either.right(2), Either.left(3)).iterator(), deadLetters::add).forEachRemaining(value -> {
+        });
+        Assert.assertEquals(Arrays.asList(1, 3), deadLetters);
+    }
+
+    @Test
+    public void rightsIteratorConsumesTheSourceLazily() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final Iterator<Either<Object, Object>> source = Stream.<Either<Object, Object>>iterate(Either.right(0), either -> {
+            pulled.incrementAndGet();
+            return Either.right(0);
+        }).iterator();
+        Either.rights(source, value -> {
+        }).next();
+        Assert.assertEquals(0, pulled.get());
+    }
+
+    @Test
+    public void rightsStreamYieldsTheRightValuesInOrder() {
+        final Stream<Either<Object, Object>> eithers = Stream.of(Either.left(1), Either.right(2), Either.right(3));
+        Assert.assertEquals(Arrays.asList(2, 3), Either.rights(eithers, value -> {
+        }).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void rightsStreamPassesTheLeftValuesToTheSink() {
+        final List<Object> deadLetters = new ArrayList<>();
+        final Stream<Either<Object, Object>> eithers = Stream.of(Either.left(1), Either.right(2), Either.left(3));
+        Either.rights(eithers, deadLetters::add).forEach(value -> {
+        });
+        Assert.assertEquals(Arrays.asList(1, 3), deadLetters);
+    }
+
+    @Test
+    public void rightsStreamCanBeProcessedInParallel() {
+        final AtomicInteger deadLetters = new AtomicInteger();
+        final Stream<Either<Object, Integer>> eithers = Stream.iterate(0, index -> index + 1).limit(10000).parallel().map(index -> index % 2 == 0 ? Either.right(index) : Either.left(index));
+        final long rights = Either.rights(eithers, value -> deadLetters.incrementAndGet()).count();
+        Assert.assertEquals(5000, rights);
+        Assert.assertEquals(5000, deadLetters.get());
+    }
+
+    @Test
+    public void leftAndRightContainingTheSameValueHaveDifferentHashCodes() {
+        Assert.assertNotEquals(left.hashCode(), right.hashCode());
+    }
+
+    @Test
+    public void equalLeftsHaveTheSameHashCode() {
+        Assert.assertEquals(Either.left(1).hashCode(), Either.left(1).hashCode());
+    }
+
+    @Test
+    public void contextualFoldOnLeftPassesTheContextAndTheValueToTheLeftMapper() {
+        final Object context = new Object();
+        Assert.assertEquals(Pair.of(context, VALUE), left.fold(context, Pair::of, (ctx, value) -> null));
+    }
+
+    @Test
+    public void contextualFoldOnRightPassesTheContextAndTheValueToTheRightMapper() {
+        final Object context = new Object();
+        Assert.assertEquals(Pair.of(context, VALUE), right.fold(context, (ctx, value) -> null, Pair::of));
+    }
+
+    @Test
+    public void contextualMapOnLeftLeavesTheComponentUnchanged() {
+        Assert.assertSame(left, left.map(VALUE, (ctx, value) -> ctx));
+    }
+
+    @Test
+    public void contextualMapOnRightReplacesTheRightComponentWithTheResultOfTheMapper() {
+        final Object context = new Object();
+        Assert.assertEquals(Either.right(Pair.of(context, VALUE)), right.map(context, Pair::of));
+    }
+
+    @Test
+    public void contextualFlatMapOnLeftLeavesTheComponentUnchanged() {
+        Assert.assertSame(left, left.flatMap(right, (ctx, value) -> ctx));
+    }
+
+    @Test
+    public void contextualFlatMapOnRightReturnsTheEitherReturnedByTheMapper() {
+        final Either<Object, Object> result = Either.left(new Object());
+        Assert.assertEquals(result, right.flatMap(result, (ctx, value) -> ctx));
+    }
+
+    @Test
+    public void mapLeftOnLeftReplacesTheLeftComponentWithTheResultOfTheMapper() {
+        final Object mappedValue = new Object();
+        Assert.assertEquals(Either.left(mappedValue), left.mapLeft(value -> mappedValue));
+    }
+
+    @Test
+    public void mapLeftOnRightReturnsTheRightItself() {
+        Assert.assertSame(right, right.mapLeft(value -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    public void bimapOnLeftAppliesTheLeftMapper() {
+        final Object mappedValue = new Object();
+        Assert.assertEquals(Either.left(mappedValue), left.bimap(value -> mappedValue, value -> null));
+    }
+
+    @Test
+    public void bimapOnRightAppliesTheRightMapper() {
+        final Object mappedValue = new Object();
+        Assert.assertEquals(Either.right(mappedValue), right.bimap(value -> null, value -> mappedValue));
+    }
+
+    @Test
+    public void flatMapLeftOnLeftReturnsTheEitherReturnedByTheMapper() {
+        final Either<Object, Object> result = Either.right(new Object());
+        Assert.assertEquals(result, left.flatMapLeft(value -> result));
+    }
+
+    @Test
+    public void flatMapLeftOnRightReturnsTheRightItself() {
+        Assert.assertSame(right, right.flatMapLeft(null));
+    }
+
+    @Test
+    public void orElseOnLeftReturnsTheAlternative() {
+        final Either<Object, Object> alternative = Either.right(new Object());
+        Assert.assertSame(alternative, left.orElse(alternative));
+    }
+
+    @Test
+    public void orElseOnRightReturnsTheRightItself() {
+        Assert.assertSame(right, right.orElse(Either.right(new Object())));
+    }
+
+    @Test
+    public void orElseWithSupplierOnLeftReturnsTheSuppliedAlternative() {
+        final Either<Object, Object> alternative = Either.right(new Object());
+        Assert.assertSame(alternative, left.orElse(() -> alternative));
+    }
+
+    @Test
+    public void orElseWithSupplierOnRightDoesNotCallTheSupplier() {
+        Assert.assertSame(right, right.orElse(() -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    public void recoverOnLeftReturnsRightTheResultOfTheRecovery() {
+        final Object recovered = new Object();
+        Assert.assertEquals(Either.right(recovered), left.recover(value -> recovered));
+    }
+
+    @Test
+    public void recoverOnRightReturnsTheRightItself() {
+        Assert.assertSame(right, right.recover(null));
+    }
+
+    @Test
+    public void peekOnRightPassesTheValueToTheActionAndReturnsTheRightItself() {
+        final AtomicReference<Object> capture = new AtomicReference<>();
+        Assert.assertSame(right, right.peek(capture::set));
+        Assert.assertEquals(VALUE, capture.get());
+    }
+
+    @Test
+    public void peekOnLeftDoesNotRunTheAction() {
+        Assert.assertSame(left, left.peek(null));
+    }
+
+    @Test
+    public void peekLeftOnLeftPassesTheValueToTheActionAndReturnsTheLeftItself() {
+        final AtomicReference<Object> capture = new AtomicReference<>();
+        Assert.assertSame(left, left.peekLeft(capture::set));
+        Assert.assertEquals(VALUE, capture.get());
+    }
+
+    @Test
+    public void peekLeftOnRightDoesNotRunTheAction() {
+        Assert.assertSame(right, right.peekLeft(null));
+    }
+
+    @Test
+    public void getOrElseOnRightReturnsTheContainedValue() {
+        Assert.assertEquals(VALUE, right.getOrElse(new Object()));
+    }
+
+    @Test
+    public void getOrElseOnLeftReturnsTheAlternative() {
+        final Object alternative = new Object();
+        Assert.assertEquals(alternative, left.getOrElse(alternative));
+    }
+
+    @Test
+    public void leftCodeReturnsTheSameInstanceForTheSameEnumConstant() {
+        Assert.assertSame(Either.leftCode(TimeUnit.SECONDS), Either.leftCode(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void leftCodeReturnsLeftTheEnumConstant() {
+        Assert.assertEquals(Either.left(TimeUnit.SECONDS), Either.leftCode(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void leftCodeReturnsTheSameInstanceForTheSameSmallIntCode() {
+        Assert.assertSame(Either.leftCode(404), Either.leftCode(404));
+    }
+
+    @Test
+    public void leftCodeReturnsLeftTheIntCode() {
+        Assert.assertEquals(Either.left(404), Either.leftCode(404));
+        Assert.assertEquals(Either.left(-1), Either.leftCode(-1));
+        Assert.assertEquals(Either.left(1 << 20), Either.leftCode(1 << 20));
+    }
+
+    @Test
+    public void map2OnRightsReturnsRightTheResultOfTheMapper() {
+        Assert.assertEquals(Either.right(3), Either.map2(Either.right(1), Either.right(2), Integer::sum));
+    }
+
+    @Test
+    public void map2ReturnsTheFirstLeftItself() {
+        final Either<String, Integer> first = Either.left("first");
+        final Either<String, Integer> second = Either.left("second");
+        Assert.assertSame(first, Either.map2(Either.right(1), first, Integer::sum));
+        Assert.assertSame(first, Either.map2(first, second, Integer::sum));
+    }
+
+    @Test
+    public void map3OnRightsPassesTheValuesInOrder() {
+        Assert.assertEquals(Either.right("abc"), Either.map3(Either.right("a"), Either.right("b"), Either.right("c"), (a, b, c) -> a + b + c));
+    }
+
+    @Test
+    public void map8OnRightsPassesTheValuesInOrder() {
+        final Either<Object, String> result = Either.map8(Either.right("a"), Either.right("b"), Either.right("c"), Either.right("d"), Either.right("e"), Either.right("f"), Either.right("g"), Either.right("h"),
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+        Assert.assertEquals(Either.right("abcdefgh"), result);
+    }
+
+    @Test
+    public void map8ReturnsTheLeftWhenTheLastInputIsLeft() {
+        final Either<Object, String> result = Either.map8(Either.right("a"), Either.right("b"), Either.right("c"), Either.right("d"), Either.right("e"), Either.right("f"), Either.right("g"), left,
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+        Assert.assertSame(left, result);
+    }
+
+    @Test
+    public void zipOnRightsReturnsRightThePairOfTheValues() {
+        Assert.assertEquals(Either.right(Pair.of(1, 2)), Either.zip(Either.right(1), Either.right(2)));
+    }
+
+    @Test
+    public void zipReturnsTheLeftWhenAnyInputIsLeft() {
+        Assert.assertSame(left, Either.zip(right, left));
+    }
+
+    @Test
+    public void rightNullIsShared() {
+        Assert.assertSame(Either.right(null), Either.right(null));
+    }
+
+    @Test
+    public void mapOnRightReturnsTheRightItselfWhenTheMapperReturnsTheSameValue() {
+        Assert.assertSame(right, right.map(value -> value));
+    }
+
+    @Test
+    public void internReturnsTheSameInstanceForEqualEithers() {
+        final Either<Object, Object> interned = Either.intern(Either.left(VALUE));
+        Assert.assertSame(interned, Either.intern(Either.left(VALUE)));
+        Assert.assertNotSame(interned, Either.intern(Either.right(VALUE)));
+    }
+
+    @Test
+    public void firstRightReturnsTheFirstRight() {
+        final Either<Object, Object> result = Either.firstRight(Arrays.<Supplier<Either<Object, Object>>>asList(() -> left, () -> right, () -> {
+            throw new IllegalStateException();
+        }));
+        Assert.assertSame(right, result);
+    }
+
+    @Test
+    public void firstRightReturnsTheLastLeftWhenNoAlternativeSucceeds() {
+        final Either<Object, Object> last = Either.left(new Object());
+        Assert.assertSame(last, Either.firstRight(Arrays.<Supplier<Either<Object, Object>>>asList(() -> left, () -> last)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void firstRightWithoutAlternativesIsRejected() {
+        Either.firstRight(Collections.<Supplier<Either<Object, Object>>>emptyList());
+    }
+
+    @Test
+    public void hedgedFirstRightCompletesWithTheFirstRight() throws Exception {
+        final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+        try {
+            final CompletableFuture<Either<Object, Object>> result = Either.firstRight(Arrays.<Supplier<Either<Object, Object>>>asList(() -> left, () -> right), 10, TimeUnit.MILLISECONDS, executor);
+            Assert.assertSame(right, result.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void hedgedFirstRightCompletesWithTheLastLeftWhenNoAlternativeSucceeds() throws Exception {
+        final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+        final Either<Object, Object> last = Either.left(new Object());
+        try {
+            final CompletableFuture<Either<Object, Object>> result = Either.firstRight(Arrays.<Supplier<Either<Object, Object>>>asList(() -> left, () -> last), 0, TimeUnit.MILLISECONDS, executor);
+            Assert.assertSame(last, result.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package data;
+
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.layouters.Layouter;
+
+public class FootprintReport {
+
+    private static final Object VALUE = new Object();
+
+    public static void main(String[] args) {
+        report("just", Maybe.just(VALUE));
+        report("left", Either.left(VALUE));
+        report("right", Either.right(VALUE));
+        report("pair", Pair.of(VALUE, VALUE));
+        report("maybe of pair", Maybe.just(Pair.of(VALUE, VALUE)));
+        report("either of maybe", Either.right(Maybe.just(VALUE)));
+        report("pair of maybes", Pair.of(Maybe.just(VALUE), Maybe.just(VALUE)));
+        layout(Maybe.just(VALUE).getClass());
+        layout(Pair.class);
+    }
+
+    private static void report(String name, Object value) {
+        System.out.printf("%-16s compressed %4d bytes, uncompressed %4d bytes%n", name,
+                FootprintTest.retained(value, FootprintTest.COMPRESSED), FootprintTest.retained(value, FootprintTest.UNCOMPRESSED));
+    }
+
+    private static void layout(Class<?> type) {
+        for (Layouter layouter : new Layouter[]{FootprintTest.COMPRESSED, FootprintTest.UNCOMPRESSED}) {
+            System.out.println(layouter);
+            System.out.println(ClassLayout.parseClass(type, layouter).toPrintable());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package data;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jol.datamodel.Model64;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.layouters.HotSpotLayouter;
+import org.openjdk.jol.layouters.Layouter;
+
+public class FootprintTest {
+
+    static final Layouter COMPRESSED = new HotSpotLayouter(new Model64(true, true), 8);
+    static final Layouter UNCOMPRESSED = new HotSpotLayouter(new Model64(false, false), 8);
+
+    private static final Object VALUE = new Object();
+
+    @Test
+    public void justTakesSixteenBytesWithCompressedOops() {
+        Assert.assertEquals(16, retained(Maybe.just(VALUE), COMPRESSED));
+    }
+
+    @Test
+    public void justTakesTwentyFourBytesWithoutCompressedOops() {
+        Assert.assertEquals(24, retained(Maybe.just(VALUE), UNCOMPRESSED));
+    }
+
+    @Test
+    public void leftAndRightTakeSixteenBytesWithCompressedOops() {
+        Assert.assertEquals(16, retained(Either.left(VALUE), COMPRESSED));
+        Assert.assertEquals(16, retained(Either.right(VALUE), COMPRESSED));
+    }
+
+    @Test
+    public void leftAndRightTakeTwentyFourBytesWithoutCompressedOops() {
+        Assert.assertEquals(24, retained(Either.left(VALUE), UNCOMPRESSED));
+        Assert.assertEquals(24, retained(Either.right(VALUE), UNCOMPRESSED));
+    }
+
+    @Test
+    public void pairTakesTwentyFourBytesWithCompressedOops() {
+        Assert.assertEquals(24, retained(Pair.of(VALUE, VALUE), COMPRESSED));
+    }
+
+    @Test
+    public void pairTakesThirtyTwoBytesWithoutCompressedOops() {
+        Assert.assertEquals(32, retained(Pair.of(VALUE, VALUE), UNCOMPRESSED));
+    }
+
+    @Test
+    public void nestedWrappersRetainTheSumOfTheirShells() {
+        final Object nested = Maybe.just(Either.right(Pair.of(VALUE, Maybe.just(VALUE))));
+        Assert.assertEquals(16 + 16 + 24 + 16, retained(nested, COMPRESSED));
+        Assert.assertEquals(24 + 24 + 32 + 24, retained(nested, UNCOMPRESSED));
+    }
+
+    @Test
+    public void sharedInstancesRetainNothing() {
+        Assert.assertEquals(0, retained(Maybe.nothing(), COMPRESSED));
+        Assert.assertEquals(0, retained(Maybe.just(null), COMPRESSED));
+        Assert.assertEquals(0, retained(Either.right(null), COMPRESSED));
+        Assert.assertEquals(0, retained(Pair.of(null, null), COMPRESSED));
+    }
+
+    static long retained(Object root, Layouter layouter) {
+        return retained(root, layouter, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static long retained(Object object, Layouter layouter, Set<Object> visited) {
+        if (object == null || !object.getClass().getName().startsWith("data.") || isShared(object) || !visited.add(object)) {
+            return 0;
+        }
+        long size = ClassLayout.parseClass(object.getClass(), layouter).instanceSize();
+        for (Class<?> type = object.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                    continue;
+                }
+                field.setAccessible(true);
+                try {
+                    size += retained(field.get(object), layouter, visited);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        return size;
+    }
+
+    private static boolean isShared(Object object) {
+        return object == Maybe.nothing() || object == Maybe.just(null) || object == Either.right(null) || object == Pair.of(null, null);
+    }
+}
@@ -0,0 +1,100 @@
+package data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class HashDistributionBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        final int side = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        report("integer grid", integerGrid(side));
+        report("string pairs", stringPairs(side));
+        report("symmetric pairs", symmetricPairs(side * side));
+        report("either values", eithers(side * side));
+        report("maybe values", maybes(side * side));
+    }
+
+    private static List<Object> integerGrid(int side) {
+        final List<Object> keys = new ArrayList<>(side * side);
+        for (int x = 0; x < side; x++) {
+            for (int y = 0; y < side; y++) {
+                keys.add(Pair.of(x, y));
+            }
+        }
+        return keys;
+    }
+
+    private static List<Object> stringPairs(int side) {
+        final List<Object> keys = new ArrayList<>(side * side);
+        for (int tenant = 0; tenant < side; tenant++) {
+            for (int user = 0; user < side; user++) {
+                keys.add(Pair.of("tenant-" + tenant, "user-" + user));
+            }
+        }
+        return keys;
+    }
+
+    private static List<Object> symmetricPairs(int count) {
+        final List<Object> keys = new ArrayList<>(count);
+        for (int index = 0; index < count / 2; index++) {
+            keys.add(Pair.of(index, index + 1));
+            keys.add(Pair.of(index + 1, index));
+        }
+        return keys;
+    }
+
+    private static List<Object> eithers(int count) {
+        final List<Object> keys = new ArrayList<>(count);
+        for (int index = 0; index < count / 2; index++) {
+            keys.add(Either.left(index));
+            keys.add(Either.right(index));
+        }
+        return keys;
+    }
+
+    private static List<Object> maybes(int count) {
+        final List<Object> keys = new ArrayList<>(count);
+        keys.add(Maybe.nothing());
+        keys.add(Maybe.just(null));
+        for (int index = 2; index < count; index++) {
+            keys.add(Maybe.just(index));
+        }
+        return keys;
+    }
+
+    private static void report(String name, List<Object> keys) {
+        final int buckets = Integer.highestOneBit(keys.size()) << 1;
+        final int[] chains = new int[buckets];
+        final Map<Integer, Integer> distinct = new HashMap<>();
+        int longest = 0;
+        for (Object key : keys) {
+            final int hash = key.hashCode();
+            distinct.merge(hash, 1, Integer::sum);
+            longest = Math.max(longest, ++chains[(hash ^ hash >>> 16) & buckets - 1]);
+        }
+        int used = 0;
+        for (int chain : chains) {
+            used += chain == 0 ? 0 : 1;
+        }
+        final Map<Object, Object> map = new HashMap<>();
+        for (Object key : keys) {
+            map.put(key, key);
+        }
+        long best = Long.MAX_VALUE;
+        int hits = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            final long start = System.nanoTime();
+            for (Object key : keys) {
+                hits += map.get(key) == null ? 0 : 1;
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-16s keys=%d distinctHashes=%d usedBuckets=%d/%d longestChain=%d lookup=%.1fns/op (%d hits)%n",
+                name, keys.size(), distinct.size(), used, buckets, longest, (double) best / keys.size(), hits);
+        System.out.flush();
+    }
+}
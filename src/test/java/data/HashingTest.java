@@ -0,0 +1,60 @@
+package data;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HashingTest {
+
+    private static final int GRID = 500;
+
+    @Test
+    public void mixOfZeroIsZero() {
+        Assert.assertEquals(0, Hashing.mix(0));
+    }
+
+    @Test
+    public void mixDoesNotCollapseConsecutiveValues() {
+        final Set<Integer> mixed = new HashSet<>();
+        for (int value = 0; value < 100000; value++) {
+            mixed.add(Hashing.mix(value));
+        }
+        Assert.assertEquals(100000, mixed.size());
+    }
+
+    @Test
+    public void taggedHashesOfTheSameValueDifferBySeed() {
+        Assert.assertNotEquals(Hashing.tagged(Hashing.LEFT, "value"), Hashing.tagged(Hashing.RIGHT, "value"));
+    }
+
+    @Test
+    public void orderedHashDependsOnTheOrderOfTheComponents() {
+        Assert.assertNotEquals(Hashing.ordered(1, 2), Hashing.ordered(2, 1));
+    }
+
+    @Test
+    public void integerGridPairsHaveAlmostNoHashCollisions() {
+        final Set<Integer> hashes = new HashSet<>();
+        for (int x = 0; x < GRID; x++) {
+            for (int y = 0; y < GRID; y++) {
+                hashes.add(Pair.of(x, y).hashCode());
+            }
+        }
+        Assert.assertTrue(hashes.size() > GRID * GRID * 0.999);
+    }
+
+    @Test
+    public void integerGridPairsSpreadEvenlyAcrossHashMapBuckets() {
+        final int buckets = Integer.highestOneBit(GRID * GRID) << 1;
+        final int[] chains = new int[buckets];
+        int longest = 0;
+        for (int x = 0; x < GRID; x++) {
+            for (int y = 0; y < GRID; y++) {
+                final int hash = Pair.of(x, y).hashCode();
+                longest = Math.max(longest, ++chains[(hash ^ hash >>> 16) & buckets - 1]);
+            }
+        }
+        Assert.assertTrue("longest chain " + longest, longest <= 12);
+    }
+}
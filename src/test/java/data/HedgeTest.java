@@ -0,0 +1,123 @@
+package data;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HedgeTest {
+
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(4);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void zeroDelayStartsEveryAlternativeAtOnce() throws Exception {
+        final CountDownLatch started = new CountDownLatch(2);
+        final Supplier<String> waiting = () -> {
+            started.countDown();
+            await(started);
+            return "ok";
+        };
+        Assert.assertEquals("ok", race(Arrays.asList(waiting, waiting), 0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void fastSuccessNeverStartsTheNextAlternative() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        Assert.assertEquals("ok", race(Arrays.asList(() -> "ok", () -> "" + calls.incrementAndGet()), 1, TimeUnit.HOURS));
+        Assert.assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void slowAlternativeIsHedgedAfterTheDelayAndCancelled() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final Supplier<String> slow = () -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "slow";
+        };
+        Assert.assertEquals("fast", race(Arrays.asList(slow, () -> "fast"), 10, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void failedAlternativeStartsTheNextOneWithoutWaitingForTheDelay() throws Exception {
+        Assert.assertEquals("ok", race(Arrays.asList(() -> "", () -> "ok"), 1, TimeUnit.HOURS));
+    }
+
+    @Test
+    public void failedAlternativeKeepsTheDelayBetweenTheLaterStarts() throws Exception {
+        final AtomicLongArray starts = new AtomicLongArray(4);
+        final Supplier<String> slow = () -> {
+            await(new CountDownLatch(1));
+            return "";
+        };
+        final List<Supplier<String>> alternatives = Arrays.asList(() -> "", slow, () -> {
+            starts.set(2, System.nanoTime());
+            return slow.get();
+        }, () -> {
+            starts.set(3, System.nanoTime());
+            return "ok";
+        });
+        Assert.assertEquals("ok", race(alternatives, 300, TimeUnit.MILLISECONDS));
+        Assert.assertNotEquals(0, starts.get(2));
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(starts.get(3) - starts.get(2)) >= 200);
+    }
+
+    @Test
+    public void exhaustedRaceReturnsTheOutcomeOfTheLastAlternative() throws Exception {
+        Assert.assertEquals("", race(Arrays.asList(() -> "", () -> ""), 0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void exhaustedRaceFailsWhenTheLastAlternativeThrows() throws Exception {
+        final IllegalStateException failure = new IllegalStateException();
+        try {
+            race(Arrays.asList(() -> "", () -> {
+                throw failure;
+            }), 0, TimeUnit.MILLISECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertSame(failure, e.getCause());
+        }
+    }
+
+    @Test
+    public void singleAlternativeIsRun() throws Exception {
+        Assert.assertEquals("ok", race(Collections.singletonList(() -> "ok"), 0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeDelayIsRejected() {
+        Hedge.race(Collections.singletonList(() -> "ok"), value -> true, -1, TimeUnit.MILLISECONDS, executor);
+    }
+
+    private String race(List<Supplier<String>> alternatives, long delay, TimeUnit unit) throws Exception {
+        return Hedge.race(alternatives, value -> !value.isEmpty(), delay, unit, executor).get(5, TimeUnit.SECONDS);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package data;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class InternerTest {
+
+    @Test
+    public void internReturnsTheFirstInternedOfEqualValues() {
+        final Interner<String> interner = Interner.create();
+        final String first = new String("value");
+        final String second = new String("value");
+        Assert.assertSame(first, interner.intern(first));
+        Assert.assertSame(first, interner.intern(second));
+    }
+
+    @Test
+    public void internKeepsDistinctValuesApart() {
+        final Interner<String> interner = Interner.create();
+        interner.intern("first");
+        Assert.assertEquals("second", interner.intern("second"));
+        Assert.assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void internedValuesAreOnlyWeaklyReachable() {
+        final Interner<String> interner = Interner.create(1);
+        final String first = new String("value");
+        interner.intern(first);
+        final WeakReference<String> reference = interner.reference(first);
+        Assert.assertSame(first, reference.get());
+        reference.clear();
+        final String second = new String("value");
+        Assert.assertSame(second, interner.intern(second));
+    }
+
+    @Test
+    public void internedValuesAreReclaimedOnceUnreachable() throws InterruptedException {
+        final Interner<Object> interner = Interner.create(1);
+        interner.intern(new String("value"));
+        for (int attempt = 0; attempt < 100 && interner.size() > 0; attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assert.assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void concurrentInternsOfEqualValuesAgreeOnOneInstance() throws Exception {
+        final Interner<Pair<String, String>> interner = Interner.create(4);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Pair<String, String>>> futures = new ArrayList<>();
+            for (int task = 0; task < 64; task++) {
+                futures.add(executor.submit(() -> interner.intern(Pair.of(new String("from"), new String("to")))));
+            }
+            final Pair<String, String> canonical = futures.get(0).get();
+            for (Future<Pair<String, String>> future : futures) {
+                Assert.assertSame(canonical, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveConcurrencyIsRejected() {
+        Interner.create(0);
+    }
+}
@@ -0,0 +1,107 @@
+package data;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JoinTest {
+
+    private final List<String> lefts = Arrays.asList("a1", "b1", "c1");
+    private final List<String> rights = Arrays.asList("a2", "a3", "b2", "d2");
+    private final Function<String, Character> key = value -> value.charAt(0);
+
+    @Test
+    public void innerEmitsEveryMatchingCombination() {
+        final List<Pair<String, String>> joined = Join.inner(lefts, key, rights, key).collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList(Pair.of("a1", "a2"), Pair.of("a1", "a3"), Pair.of("b1", "b2")), joined);
+    }
+
+    @Test
+    public void innerOnEmptyInputEmitsNothing() {
+        Assert.assertEquals(0, Join.inner(Collections.<String>emptyList(), key, rights, key).count());
+    }
+
+    @Test
+    public void innerProbeCanRunInParallel() {
+        final List<Integer> numbers = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        final long matches = Join.inner(numbers, Function.identity(), numbers, Function.identity()).parallel().filter(pair -> pair.left().equals(pair.right())).count();
+        Assert.assertEquals(10000, matches);
+    }
+
+    @Test
+    public void leftOuterEmitsNothingOnTheRightForUnmatchedLefts() {
+        final List<Pair<String, Maybe<String>>> joined = Join.leftOuter(lefts, key, rights, key).collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList(Pair.of("a1", Maybe.just("a2")), Pair.of("a1", Maybe.just("a3")), Pair.of("b1", Maybe.just("b2")), Pair.of("c1", Maybe.nothing())), joined);
+    }
+
+    @Test
+    public void fullOuterEmitsMatchesAndUnmatchedRowsOfBothSides() {
+        final Set<Pair<Maybe<String>, Maybe<String>>> joined = Join.fullOuter(lefts, key, rights, key).collect(Collectors.toSet());
+        final Set<Pair<Maybe<String>, Maybe<String>>> expected = new HashSet<>(Arrays.asList(
+                Pair.of(Maybe.just("a1"), Maybe.just("a2")),
+                Pair.of(Maybe.just("a1"), Maybe.just("a3")),
+                Pair.of(Maybe.just("b1"), Maybe.just("b2")),
+                Pair.of(Maybe.just("c1"), Maybe.nothing()),
+                Pair.of(Maybe.nothing(), Maybe.just("d2"))));
+        Assert.assertEquals(expected, joined);
+    }
+
+    @Test
+    public void fullOuterEmitsUnmatchedRightsAfterTheProbePhase() {
+        final List<Pair<Maybe<String>, Maybe<String>>> joined = Join.fullOuter(lefts, key, rights, key).collect(Collectors.toList());
+        Assert.assertEquals(Pair.of(Maybe.nothing(), Maybe.just("d2")), joined.get(joined.size() - 1));
+    }
+
+    @Test
+    public void fullOuterIsCorrectWhenRunInParallel() {
+        final List<Integer> evens = IntStream.range(0, 10000).filter(number -> number % 2 == 0).boxed().collect(Collectors.toList());
+        final List<Integer> all = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        final long unmatched = Join.fullOuter(evens, Function.identity(), all, Function.identity()).parallel().filter(pair -> pair.left().isNothing()).count();
+        Assert.assertEquals(5000, unmatched);
+    }
+
+    @Test
+    public void innerByIntEmitsEveryMatchingCombinationInInputOrder() {
+        final List<Pair<String, String>> joined = Join.innerByInt(lefts, value -> value.charAt(0), rights, value -> value.charAt(0)).collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList(Pair.of("a1", "a2"), Pair.of("a1", "a3"), Pair.of("b1", "b2")), joined);
+    }
+
+    @Test
+    public void innerByIntHandlesCollidingKeys() {
+        final List<Integer> numbers = IntStream.range(0, 1000).map(number -> number << 16).boxed().collect(Collectors.toList());
+        Assert.assertEquals(1000, Join.innerByInt(numbers, Integer::intValue, numbers, Integer::intValue).count());
+    }
+
+    @Test
+    public void innerByIntOnEmptyBuildSideEmitsNothing() {
+        Assert.assertEquals(0, Join.innerByInt(lefts, String::length, Collections.<String>emptyList(), String::length).count());
+    }
+
+    @Test
+    public void leftOuterByIntEmitsNothingOnTheRightForUnmatchedLefts() {
+        final List<Pair<String, Maybe<String>>> joined = Join.leftOuterByInt(lefts, value -> value.charAt(0), rights, value -> value.charAt(0)).collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList(Pair.of("a1", Maybe.just("a2")), Pair.of("a1", Maybe.just("a3")), Pair.of("b1", Maybe.just("b2")), Pair.of("c1", Maybe.nothing())), joined);
+    }
+
+    @Test
+    public void fullOuterByIntMatchesTheHashedFullOuterJoin() {
+        final List<Pair<Maybe<String>, Maybe<String>>> joined = Join.fullOuterByInt(lefts, value -> value.charAt(0), rights, value -> value.charAt(0)).collect(Collectors.toList());
+        Assert.assertEquals(Join.fullOuter(lefts, key, rights, key).collect(Collectors.toSet()), new HashSet<>(joined));
+        Assert.assertEquals(Pair.of(Maybe.nothing(), Maybe.just("d2")), joined.get(joined.size() - 1));
+    }
+
+    @Test
+    public void fullOuterByIntIsCorrectWhenRunInParallel() {
+        final List<Integer> evens = IntStream.range(0, 10000).filter(number -> number % 2 == 0).boxed().collect(Collectors.toList());
+        final List<Integer> all = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        final long unmatched = Join.fullOuterByInt(evens, Integer::intValue, all, Integer::intValue).parallel().filter(pair -> pair.left().isNothing()).count();
+        Assert.assertEquals(5000, unmatched);
+    }
+}
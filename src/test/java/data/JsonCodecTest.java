@@ -0,0 +1,97 @@
+package data;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.StringReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JsonCodecTest {
+
+    @Test
+    public void maybeCodecWritesNothingAsNull() throws IOException {
+        Assert.assertEquals("null", write(JsonCodec.maybe(JsonCodec.int64()), Maybe.nothing()));
+    }
+
+    @Test
+    public void maybeCodecWritesJustAsTheBareValue() throws IOException {
+        Assert.assertEquals("1", write(JsonCodec.maybe(JsonCodec.int64()), Maybe.just(1L)));
+    }
+
+    @Test
+    public void maybeCodecReadsNullAsNothing() throws IOException {
+        Assert.assertEquals(Maybe.nothing(), read(JsonCodec.maybe(JsonCodec.string()), "null"));
+    }
+
+    @Test
+    public void taggedMaybeCodecDistinguishesJustNullFromNothing() throws IOException {
+        final JsonCodec<Maybe<String>> codec = JsonCodec.maybe(JsonCodec.string(), "just");
+        Assert.assertEquals("{\"just\":null}", write(codec, Maybe.just(null)));
+        Assert.assertEquals(Maybe.just(null), read(codec, "{\"just\":null}"));
+        Assert.assertEquals(Maybe.nothing(), read(codec, "null"));
+    }
+
+    @Test
+    public void eitherCodecTagsTheSide() throws IOException {
+        final JsonCodec<Either<String, Long>> codec = JsonCodec.either(JsonCodec.string(), JsonCodec.int64());
+        Assert.assertEquals("{\"left\":\"error\"}", write(codec, Either.left("error")));
+        Assert.assertEquals("{\"right\":7}", write(codec, Either.right(7L)));
+    }
+
+    @Test
+    public void eitherCodecUsesTheConfiguredTags() throws IOException {
+        final JsonCodec<Either<String, Long>> codec = JsonCodec.either(JsonCodec.string(), "error", JsonCodec.int64(), "ok");
+        Assert.assertEquals("{\"ok\":7}", write(codec, Either.right(7L)));
+        Assert.assertEquals(Either.left("x"), read(codec, "{\"error\":\"x\"}"));
+    }
+
+    @Test(expected = IOException.class)
+    public void eitherCodecRejectsUnknownTags() throws IOException {
+        read(JsonCodec.either(JsonCodec.string(), JsonCodec.int64()), "{\"middle\":1}");
+    }
+
+    @Test
+    public void pairCodecWritesBothComponents() throws IOException {
+        Assert.assertEquals("{\"left\":\"a\",\"right\":true}", write(JsonCodec.pair(JsonCodec.string(), JsonCodec.bool()), Pair.of("a", true)));
+    }
+
+    @Test
+    public void pairCodecReadsComponentsInAnyOrderAndSkipsUnknownMembers() throws IOException {
+        final JsonCodec<Pair<String, Double>> codec = JsonCodec.pair(JsonCodec.string(), JsonCodec.float64());
+        Assert.assertEquals(Pair.of("a", 1.5), read(codec, "{\"right\":1.5,\"extra\":[1,2],\"left\":\"a\"}"));
+    }
+
+    @Test
+    public void consecutiveDocumentsAreReadFromOneReader() throws IOException {
+        final JsonCodec<Pair<String, Long>> codec = JsonCodec.pair(JsonCodec.string(), JsonCodec.int64());
+        final Reader in = new StringReader("{\"left\":\"a\",\"right\":1} {\"left\":\"b\",\"right\":2}");
+        Assert.assertEquals(Pair.of("a", 1L), codec.read(in));
+        Assert.assertEquals(Pair.of("b", 2L), codec.read(in));
+        Assert.assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void consecutiveNumbersAreReadFromOnePushbackReader() throws IOException {
+        final Reader in = new PushbackReader(new StringReader("12[3]"));
+        Assert.assertEquals(Long.valueOf(12), JsonCodec.int64().read(in));
+        Assert.assertEquals('[', in.read());
+    }
+
+    @Test
+    public void nestedValuesRoundTrip() throws IOException {
+        final JsonCodec<Pair<Maybe<String>, Either<Long, Boolean>>> codec = JsonCodec.pair(JsonCodec.maybe(JsonCodec.string()), JsonCodec.either(JsonCodec.int64(), JsonCodec.bool()));
+        final Pair<Maybe<String>, Either<Long, Boolean>> value = Pair.of(Maybe.just("x\n\"y\""), Either.left(-3L));
+        Assert.assertEquals(value, read(codec, write(codec, value)));
+    }
+
+    private static <T> String write(JsonCodec<T> codec, T value) throws IOException {
+        final StringBuilder out = new StringBuilder();
+        codec.write(value, out);
+        return out.toString();
+    }
+
+    private static <T> T read(JsonCodec<T> codec, String json) throws IOException {
+        return codec.read(new StringReader(json));
+    }
+}
@@ -0,0 +1,96 @@
+package data;
+
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JsonReaderTest {
+
+    @Test
+    public void readsAnObject() throws IOException {
+        final JsonReader reader = reader(" { \"a\" : 1 , \"b\" : \"x\" } ");
+        reader.beginObject();
+        Assert.assertEquals("a", reader.nextName());
+        Assert.assertEquals(1, reader.nextLong());
+        Assert.assertEquals("b", reader.nextName());
+        Assert.assertEquals("x", reader.nextString());
+        Assert.assertFalse(reader.hasNext());
+        reader.endObject();
+        Assert.assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    public void readsAnArrayOfLiterals() throws IOException {
+        final JsonReader reader = reader("[true,false,null,-2.5e1]");
+        reader.beginArray();
+        Assert.assertTrue(reader.nextBoolean());
+        Assert.assertFalse(reader.nextBoolean());
+        reader.nextNull();
+        Assert.assertEquals(-25.0, reader.nextDouble(), 0.0);
+        reader.endArray();
+    }
+
+    @Test
+    public void readsEmptyContainers() throws IOException {
+        final JsonReader reader = reader("[{},[]]");
+        reader.beginArray();
+        reader.beginObject();
+        reader.endObject();
+        reader.beginArray();
+        reader.endArray();
+        reader.endArray();
+        Assert.assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    public void decodesEscapes() throws IOException {
+        Assert.assertEquals("\"\\/\b\f\n\r\té", reader("\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9\"").nextString());
+    }
+
+    @Test
+    public void readsStringsLongerThanTheBuffer() throws IOException {
+        final StringBuilder value = new StringBuilder();
+        for (int index = 0; index < 5000; index++) {
+            value.append((char) ('a' + index % 26));
+        }
+        Assert.assertEquals(value.toString(), reader("\"" + value + "\"").nextString());
+    }
+
+    @Test
+    public void skipValueSkipsNestedContainers() throws IOException {
+        final JsonReader reader = reader("[{\"a\":[1,{\"b\":null}]},2]");
+        reader.beginArray();
+        reader.skipValue();
+        Assert.assertEquals(2, reader.nextLong());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsMissingSeparators() throws IOException {
+        final JsonReader reader = reader("[1 2]");
+        reader.beginArray();
+        reader.nextLong();
+        reader.nextLong();
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsUnterminatedStrings() throws IOException {
+        reader("\"abc").nextString();
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTrailingContent() throws IOException {
+        final JsonReader reader = reader("1 2");
+        reader.nextLong();
+        reader.peek();
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsATokenOfTheWrongType() throws IOException {
+        reader("\"x\"").nextLong();
+    }
+
+    private static JsonReader reader(String json) {
+        return new JsonReader(new StringReader(json));
+    }
+}
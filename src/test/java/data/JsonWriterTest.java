@@ -0,0 +1,67 @@
+package data;
+
+import java.io.IOException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JsonWriterTest {
+
+    private final StringBuilder out = new StringBuilder();
+    private final JsonWriter writer = new JsonWriter(out);
+
+    @Test
+    public void writesAnObjectWithSeparatedMembers() throws IOException {
+        writer.beginObject().name("a").value(1).name("b").value(true).endObject();
+        Assert.assertEquals("{\"a\":1,\"b\":true}", out.toString());
+    }
+
+    @Test
+    public void writesAnArrayWithSeparatedElements() throws IOException {
+        writer.beginArray().value("x").nullValue().value(1.5).endArray();
+        Assert.assertEquals("[\"x\",null,1.5]", out.toString());
+    }
+
+    @Test
+    public void writesNestedContainers() throws IOException {
+        writer.beginArray().beginObject().endObject().beginArray().endArray().endArray();
+        Assert.assertEquals("[{},[]]", out.toString());
+    }
+
+    @Test
+    public void writesNegativeAndExtremeLongs() throws IOException {
+        writer.beginArray().value(-42).value(0).value(Long.MIN_VALUE).value(Long.MAX_VALUE).endArray();
+        Assert.assertEquals("[-42,0,-9223372036854775808,9223372036854775807]", out.toString());
+    }
+
+    @Test
+    public void escapesSpecialCharactersInStrings() throws IOException {
+        writer.value("\"\\\n\u0001");
+        Assert.assertEquals("\"\\\"\\\\\\n\\u0001\"", out.toString());
+    }
+
+    @Test
+    public void writesNullForANullString() throws IOException {
+        writer.value((String) null);
+        Assert.assertEquals("null", out.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonFiniteNumbers() throws IOException {
+        writer.value(Double.NaN);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsAValueWithoutANameInsideAnObject() throws IOException {
+        writer.beginObject().value(1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsASecondTopLevelValue() throws IOException {
+        writer.value(1).value(2);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsUnbalancedEnds() throws IOException {
+        writer.beginArray().endObject();
+    }
+}
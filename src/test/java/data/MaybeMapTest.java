@@ -0,0 +1,103 @@
+package data;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MaybeMapTest {
+
+    private static final Object KEY = new Object();
+    private static final Object VALUE = new Object();
+
+    @Test
+    public void getReturnsJustTheMappedValue() {
+        final Map<Object, Object> map = new HashMap<>();
+        map.put(KEY, VALUE);
+        Assert.assertEquals(Maybe.just(VALUE), MaybeMap.of(map).get(KEY));
+    }
+
+    @Test
+    public void getReturnsNothingWhenTheKeyIsMissing() {
+        Assert.assertEquals(Maybe.nothing(), MaybeMap.of(new HashMap<>()).get(KEY));
+    }
+
+    @Test
+    public void getReturnsJustNullWhenTheKeyIsMappedToNull() {
+        final Map<Object, Object> map = new HashMap<>();
+        map.put(KEY, null);
+        Assert.assertEquals(Maybe.just(null), MaybeMap.of(map).get(KEY));
+    }
+
+    @Test
+    public void computeIfAbsentReturnsThePresentValueWithoutCallingTheLoader() {
+        final Map<Object, Object> map = new HashMap<>();
+        map.put(KEY, VALUE);
+        Assert.assertEquals(Maybe.just(VALUE), MaybeMap.of(map).computeIfAbsent(KEY, key -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    public void computeIfAbsentStoresTheValueOfAJustReturnedByTheLoader() {
+        final Map<Object, Object> map = new HashMap<>();
+        Assert.assertEquals(Maybe.just(VALUE), MaybeMap.of(map).computeIfAbsent(KEY, key -> Maybe.just(VALUE)));
+        Assert.assertEquals(VALUE, map.get(KEY));
+    }
+
+    @Test
+    public void computeIfAbsentDoesNotStoreAnythingWhenTheLoaderReturnsNothing() {
+        final Map<Object, Object> map = new HashMap<>();
+        Assert.assertEquals(Maybe.nothing(), MaybeMap.of(map).computeIfAbsent(KEY, key -> Maybe.nothing()));
+        Assert.assertFalse(map.containsKey(KEY));
+    }
+
+    @Test
+    public void computeIfAbsentOnAConcurrentMapStoresTheValueOfAJustReturnedByTheLoader() {
+        final Map<Object, Object> map = new ConcurrentHashMap<>();
+        Assert.assertEquals(Maybe.just(VALUE), MaybeMap.of(map).computeIfAbsent(KEY, key -> Maybe.just(VALUE)));
+        Assert.assertEquals(VALUE, map.get(KEY));
+    }
+
+    @Test
+    public void computeIfAbsentOnAConcurrentMapDoesNotStoreAnythingWhenTheLoaderReturnsNothing() {
+        final Map<Object, Object> map = new ConcurrentHashMap<>();
+        Assert.assertEquals(Maybe.nothing(), MaybeMap.of(map).computeIfAbsent(KEY, key -> Maybe.nothing()));
+        Assert.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void computeIfAbsentStoresNullWhenTheLoaderReturnsJustNull() {
+        final Map<Object, Object> map = new HashMap<>();
+        Assert.assertEquals(Maybe.just(null), MaybeMap.of(map).computeIfAbsent(KEY, key -> Maybe.just(null)));
+        Assert.assertTrue(map.containsKey(KEY));
+    }
+
+    @Test
+    public void computeIfAbsentOnAConcurrentMapRejectsJustNull() {
+        final Map<Object, Object> map = new ConcurrentHashMap<>();
+        try {
+            MaybeMap.of(map).computeIfAbsent(KEY, key -> Maybe.just(null));
+            Assert.fail();
+        } catch (NullPointerException expected) {
+            Assert.assertTrue(map.isEmpty());
+        }
+    }
+
+    @Test
+    public void computeIfAbsentOnAConcurrentMapCallsTheLoaderOnlyOnce() {
+        final MaybeMap<Object, Object> map = MaybeMap.of(new ConcurrentHashMap<>());
+        final AtomicInteger calls = new AtomicInteger();
+        map.computeIfAbsent(KEY, key -> Maybe.just(calls.incrementAndGet()));
+        map.computeIfAbsent(KEY, key -> Maybe.just(calls.incrementAndGet()));
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void asMapReturnsTheUnderlyingMap() {
+        final Map<Object, Object> map = new HashMap<>();
+        Assert.assertSame(map, MaybeMap.of(map).asMap());
+    }
+}
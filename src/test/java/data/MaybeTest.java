@@ -1,7 +1,20 @@
 package data;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -341,6 +354,279 @@ public class MaybeTest {
         Assert.assertFalse(Maybe.nothing().equals(Maybe.just(null)));
     }
 
+    @Test
+    public void justNullAndNothingHaveDifferentHashCodes() {
+        Assert.assertNotEquals(Maybe.nothing().hashCode(), Maybe.just(null).hashCode());
+    }
+
+    @Test
+    public void equalJustsHaveTheSameHashCode() {
+        Assert.assertEquals(Maybe.just(1).hashCode(), Maybe.just(1).hashCode());
+    }
+
+    @Test
+    public void contextualFoldOnJustPassesTheContextAndTheValueToTheMapper() {
+        final Object context = new Object();
+        Assert.assertEquals(Pair.of(context, VALUE), just.fold(context, Pair::of, ctx -> null));
+    }
+
+    @Test
+    public void contextualFoldOnNothingPassesTheContextToTheFallback() {
+        final Object context = new Object();
+        Assert.assertEquals(context, nothing.fold(context, (ctx, value) -> null, ctx -> ctx));
+    }
+
+    @Test
+    public void contextualApplyOnJustPassesTheContextAndTheValueToTheAction() {
+        final AtomicReference<Object> capture = new AtomicReference<>();
+        just.apply(capture, AtomicReference::set);
+        Assert.assertEquals(VALUE, capture.get());
+    }
+
+    @Test
+    public void contextualApplyOnNothingDoesNotRunTheAction() {
+        nothing.apply(VALUE, (ctx, value) -> {
+            throw new IllegalStateException();
+        });
+    }
+
+    @Test
+    public void contextualApplyOnNothingPassesTheContextToTheOnNothingAction() {
+        final AtomicBoolean run = new AtomicBoolean(false);
+        nothing.apply(run, (ctx, value) -> {
+        }, ctx -> ctx.set(true));
+        Assert.assertTrue(run.get());
+    }
+
+    @Test
+    public void contextualMapOnJustReturnsJustTheResultOfTheMapper() {
+        final Object context = new Object();
+        Assert.assertEquals(Maybe.just(Pair.of(context, VALUE)), just.map(context, Pair::of));
+    }
+
+    @Test
+    public void contextualMapOnNothingReturnsNothing() {
+        Assert.assertEquals(nothing, nothing.map(VALUE, (ctx, value) -> ctx));
+    }
+
+    @Test
+    public void contextualFlatMapOnJustReturnsTheMaybeReturnedByTheMapper() {
+        final Maybe<Object> result = Maybe.just(new Object());
+        Assert.assertEquals(result, just.flatMap(result, (ctx, value) -> ctx));
+    }
+
+    @Test
+    public void contextualFlatMapOnNothingReturnsNothing() {
+        Assert.assertEquals(nothing, nothing.flatMap(just, (ctx, value) -> ctx));
+    }
+
+    @Test
+    public void getReturnsJustTheValueMappedToTheKey() {
+        final Map<Object, Object> map = new HashMap<>();
+        map.put(VALUE, VALUE);
+        Assert.assertEquals(just, Maybe.get(map, VALUE));
+    }
+
+    @Test
+    public void getReturnsNothingWhenTheMapDoesNotContainTheKey() {
+        Assert.assertEquals(nothing, Maybe.get(new HashMap<>(), VALUE));
+    }
+
+    @Test
+    public void getReturnsJustNullWhenTheKeyIsMappedToNull() {
+        final Map<Object, Object> map = new HashMap<>();
+        map.put(VALUE, null);
+        Assert.assertEquals(Maybe.just(null), Maybe.get(map, VALUE));
+    }
+
+    @Test
+    public void map2OnJustsReturnsJustTheResultOfTheMapper() {
+        Assert.assertEquals(Maybe.just(3), Maybe.map2(Maybe.just(1), Maybe.just(2), Integer::sum));
+    }
+
+    @Test
+    public void map2ReturnsNothingWhenAnyInputIsNothing() {
+        Assert.assertEquals(nothing, Maybe.map2(Maybe.just(1), Maybe.<Integer>nothing(), Integer::sum));
+    }
+
+    @Test
+    public void map2DoesNotCallTheMapperWhenAnyInputIsNothing() {
+        Maybe.map2(nothing, just, (first, second) -> {
+            throw new IllegalStateException();
+        });
+    }
+
+    @Test
+    public void map3OnJustsPassesTheValuesInOrder() {
+        Assert.assertEquals(Maybe.just("abc"), Maybe.map3(Maybe.just("a"), Maybe.just("b"), Maybe.just("c"), (a, b, c) -> a + b + c));
+    }
+
+    @Test
+    public void map8OnJustsPassesTheValuesInOrder() {
+        final Maybe<String> result = Maybe.map8(Maybe.just("a"), Maybe.just("b"), Maybe.just("c"), Maybe.just("d"), Maybe.just("e"), Maybe.just("f"), Maybe.just("g"), Maybe.just("h"),
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+        Assert.assertEquals(Maybe.just("abcdefgh"), result);
+    }
+
+    @Test
+    public void map8ReturnsNothingWhenTheLastInputIsNothing() {
+        final Maybe<String> result = Maybe.map8(Maybe.just("a"), Maybe.just("b"), Maybe.just("c"), Maybe.just("d"), Maybe.just("e"), Maybe.just("f"), Maybe.just("g"), Maybe.<String>nothing(),
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+        Assert.assertEquals(nothing, result);
+    }
+
+    @Test
+    public void zipOnJustsReturnsJustThePairOfTheValues() {
+        Assert.assertEquals(Maybe.just(Pair.of(1, 2)), Maybe.zip(Maybe.just(1), Maybe.just(2)));
+    }
+
+    @Test
+    public void zipReturnsNothingWhenAnyInputIsNothing() {
+        Assert.assertEquals(nothing, Maybe.zip(just, nothing));
+    }
+
+    @Test
+    public void justNullIsShared() {
+        Assert.assertSame(Maybe.just(null), Maybe.just(null));
+    }
+
+    @Test
+    public void mapOnJustReturnsTheJustItselfWhenTheMapperReturnsTheSameValue() {
+        Assert.assertSame(just, just.map(value -> value));
+    }
+
+    @Test
+    public void internReturnsTheSameInstanceForEqualJusts() {
+        final Maybe<Object> interned = Maybe.intern(Maybe.just(VALUE));
+        Assert.assertSame(interned, Maybe.intern(Maybe.just(VALUE)));
+    }
+
+    @Test
+    public void internOfNothingReturnsNothing() {
+        Assert.assertSame(nothing, Maybe.intern(nothing));
+    }
+
+    @Test
+    public void firstOfReturnsTheFirstJust() {
+        final Maybe<Object> result = Maybe.firstOf(Arrays.<Supplier<Maybe<Object>>>asList(() -> nothing, () -> just, () -> {
+            throw new IllegalStateException();
+        }));
+        Assert.assertSame(just, result);
+    }
+
+    @Test
+    public void firstOfReturnsNothingWhenNoAlternativeHasAValue() {
+        Assert.assertEquals(nothing, Maybe.firstOf(Arrays.<Supplier<Maybe<Object>>>asList(() -> nothing, () -> nothing)));
+    }
+
+    @Test
+    public void hedgedFirstOfCompletesWithTheFirstJust() throws Exception {
+        final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+        try {
+            final CompletableFuture<Maybe<Object>> result = Maybe.firstOf(Arrays.<Supplier<Maybe<Object>>>asList(() -> nothing, () -> just), 0, TimeUnit.MILLISECONDS, executor);
+            Assert.assertSame(just, result.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void hedgedFirstOfWithoutAlternativesCompletesWithNothing() throws Exception {
+        Assert.assertEquals(nothing, Maybe.firstOf(Collections.<Supplier<Maybe<Object>>>emptyList(), 0, TimeUnit.MILLISECONDS, null).get());
+    }
+
+    @Test
+    public void memoizedFunctionReturnsTheResultOfTheFunction() {
+        final Maybe<Object> result = Maybe.just(new Object());
+        Assert.assertEquals(result, Maybe.memoize(key -> result, 10).apply(VALUE));
+    }
+
+    @Test
+    public void memoizedFunctionCallsTheFunctionOnceForRepeatedJustLookups() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Object, Maybe<Object>> memoized = Maybe.memoize(key -> {
+            calls.incrementAndGet();
+            return just;
+        }, 10);
+        memoized.apply(VALUE);
+        memoized.apply(VALUE);
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void memoizedFunctionCallsTheFunctionOnceForRepeatedNothingLookups() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Object, Maybe<Object>> memoized = Maybe.memoize(key -> {
+            calls.incrementAndGet();
+            return nothing;
+        }, 10);
+        memoized.apply(VALUE);
+        memoized.apply(VALUE);
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void memoizedFunctionDoesNotCacheNothingWhenItsBudgetIsZero() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Object, Maybe<Object>> memoized = Maybe.memoize(key -> {
+            calls.incrementAndGet();
+            return nothing;
+        }, 10, 1, 0, 1, TimeUnit.HOURS);
+        memoized.apply(VALUE);
+        memoized.apply(VALUE);
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void traverseBatchedReturnsJustTheValuesInInputOrder() {
+        final Maybe<List<String>> result = Maybe.traverseBatched(Arrays.asList(3, 1, 2), keys -> justs(keys), 2);
+        Assert.assertEquals(Maybe.just(Arrays.asList("3", "1", "2")), result);
+    }
+
+    @Test
+    public void traverseBatchedScattersDuplicateKeysBackToEveryPosition() {
+        final Maybe<List<String>> result = Maybe.traverseBatched(Arrays.asList(1, 2, 1), keys -> justs(keys), 10);
+        Assert.assertEquals(Maybe.just(Arrays.asList("1", "2", "1")), result);
+    }
+
+    @Test
+    public void traverseBatchedPassesDistinctKeysInBatchesOfTheGivenSize() {
+        final List<List<Integer>> batches = new ArrayList<>();
+        Maybe.traverseBatched(Arrays.asList(1, 2, 1, 3, 4, 5), keys -> {
+            batches.add(new ArrayList<>(keys));
+            return justs(keys);
+        }, 2);
+        Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5)), batches);
+    }
+
+    @Test
+    public void traverseBatchedReturnsNothingWhenAKeyIsMissing() {
+        Assert.assertEquals(nothing, Maybe.traverseBatched(Arrays.asList(1, 2), keys -> new HashMap<Integer, Maybe<Object>>(), 2));
+    }
+
+    @Test
+    public void traverseBatchedStopsLoadingAfterTheFirstBatchContainingNothing() {
+        final AtomicInteger calls = new AtomicInteger();
+        Maybe.traverseBatched(Arrays.asList(1, 2, 3), keys -> {
+            calls.incrementAndGet();
+            final Map<Integer, Maybe<Object>> results = new HashMap<>();
+            keys.forEach(key -> results.put(key, Maybe.nothing()));
+            return results;
+        }, 1);
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void traverseBatchedOnNoKeysReturnsJustAnEmptyList() {
+        Assert.assertEquals(Maybe.just(new ArrayList<>()), Maybe.traverseBatched(new ArrayList<Object>(), keys -> null, 1));
+    }
+
+    private static Map<Integer, Maybe<String>> justs(List<Integer> keys) {
+        final Map<Integer, Maybe<String>> results = new HashMap<>();
+        keys.forEach(key -> results.put(key, Maybe.just(String.valueOf(key))));
+        return results;
+    }
+
     private void noop() {
     }
 
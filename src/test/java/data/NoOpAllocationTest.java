@@ -0,0 +1,208 @@
+package data;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class NoOpAllocationTest {
+
+    private static final int ITERATIONS = 1_000_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final double NO_ALLOCATION = 0.01;
+    private static final double ONE_OBJECT_MIN = 12;
+    private static final double ONE_OBJECT_MAX = 32;
+
+    private static final Object VALUE = new Object();
+    private static final Object RESULT = new Object();
+    private static final Maybe<Object> JUST = Maybe.just(VALUE);
+    private static final Maybe<Object> NOTHING = Maybe.nothing();
+    private static final Either<Object, Object> LEFT = Either.left(VALUE);
+    private static final Either<Object, Object> RIGHT = Either.right(VALUE);
+    private static final Function<Object, Object> TO_RESULT = value -> RESULT;
+    private static final Function<Object, Maybe<Object>> TO_JUST = value -> JUST;
+    private static final Function<Object, Either<Object, Object>> TO_RIGHT = value -> RIGHT;
+    private static final Predicate<Object> ACCEPT = value -> true;
+    private static final Supplier<Maybe<Object>> ALTERNATIVE = () -> NOTHING;
+    private static final BiFunction<Object, Object, Object> CONTEXT_TO_RESULT = (context, value) -> context;
+
+    private static final Map<Object, Object> MAP = new HashMap<>(Collections.singletonMap(RESULT, VALUE));
+
+    private static final String MALFORMED = "12x4";
+
+    private static volatile Object sink;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeClass
+    public static void requireAllocationCounters() {
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        Assume.assumeFalse(Allocations.enabled());
+    }
+
+    @Test
+    public void mapOnNothingDoesNotAllocate() {
+        assertNoAllocation(() -> sink = NOTHING.map(TO_RESULT));
+    }
+
+    @Test
+    public void flatMapOnNothingDoesNotAllocate() {
+        assertNoAllocation(() -> sink = NOTHING.flatMap(TO_JUST));
+    }
+
+    @Test
+    public void filterOnNothingDoesNotAllocate() {
+        assertNoAllocation(() -> sink = NOTHING.filter(ACCEPT));
+    }
+
+    @Test
+    public void filterOnJustDoesNotAllocateWhenTheValuePasses() {
+        assertNoAllocation(() -> sink = JUST.filter(ACCEPT));
+    }
+
+    @Test
+    public void orMaybeOnJustDoesNotAllocate() {
+        assertNoAllocation(() -> sink = JUST.orMaybe(ALTERNATIVE));
+    }
+
+    @Test
+    public void mapOnLeftDoesNotAllocate() {
+        assertNoAllocation(() -> sink = LEFT.map(TO_RESULT));
+    }
+
+    @Test
+    public void flatMapOnLeftDoesNotAllocate() {
+        assertNoAllocation(() -> sink = LEFT.flatMap(TO_RIGHT));
+    }
+
+    @Test
+    public void mapLeftOnRightDoesNotAllocate() {
+        assertNoAllocation(() -> sink = RIGHT.mapLeft(TO_RESULT));
+    }
+
+    @Test
+    public void recoverOnRightDoesNotAllocate() {
+        assertNoAllocation(() -> sink = RIGHT.recover(TO_RESULT));
+    }
+
+    @Test
+    public void orElseOnRightDoesNotAllocate() {
+        assertNoAllocation(() -> sink = RIGHT.orElse(LEFT));
+    }
+
+    @Test
+    public void getOfAMissingKeyDoesNotAllocate() {
+        assertNoAllocation(() -> sink = Maybe.get(MAP, VALUE));
+    }
+
+    @Test
+    public void getOfAPresentKeyAllocatesOneJust() {
+        assertOneObject(() -> sink = Maybe.get(MAP, RESULT));
+    }
+
+    @Test
+    public void leftCodeDoesNotAllocate() {
+        assertNoAllocation(() -> sink = Either.leftCode(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void map3WithANothingDoesNotAllocate() {
+        assertNoAllocation(() -> sink = Maybe.map3(JUST, JUST, NOTHING, (a, b, c) -> RESULT));
+    }
+
+    @Test
+    public void map3WithALeftDoesNotAllocate() {
+        assertNoAllocation(() -> sink = Either.map3(RIGHT, LEFT, RIGHT, (a, b, c) -> RESULT));
+    }
+
+    @Test
+    public void map3OnJustsAllocatesOneJust() {
+        assertOneObject(() -> sink = Maybe.map3(JUST, JUST, JUST, (a, b, c) -> RESULT));
+    }
+
+    @Test
+    public void failedParsesDoNotAllocate() {
+        assertNoAllocation(() -> {
+            sink = Parsers.parseInt(MALFORMED);
+            sink = Parsers.parseLong(MALFORMED);
+            sink = Parsers.parseDouble(MALFORMED);
+            sink = Parsers.parseBoolean(MALFORMED);
+            sink = Parsers.parseUuid(MALFORMED);
+            sink = Parsers.parseEnum(TimeUnit.class, MALFORMED);
+        });
+    }
+
+    @Test
+    public void narrowingAMaybeDoesNotAllocate() {
+        assertNoAllocation(() -> sink = Maybe.<Object>narrow(JUST));
+    }
+
+    @Test
+    public void narrowingAnEitherDoesNotAllocate() {
+        assertNoAllocation(() -> sink = Either.<Object, Object>narrow(RIGHT));
+    }
+
+    @Test
+    public void contextualFoldOnJustDoesNotAllocate() {
+        assertNoAllocation(() -> sink = JUST.fold(RESULT, CONTEXT_TO_RESULT, context -> context));
+    }
+
+    @Test
+    public void contextualFoldOnRightDoesNotAllocate() {
+        assertNoAllocation(() -> sink = RIGHT.fold(RESULT, CONTEXT_TO_RESULT, CONTEXT_TO_RESULT));
+    }
+
+    @Test
+    public void contextualMapOnJustAllocatesExactlyOneObject() {
+        assertOneObject(() -> sink = JUST.map(RESULT, CONTEXT_TO_RESULT));
+    }
+
+    @Test
+    public void mapOnJustAllocatesExactlyOneObject() {
+        assertOneObject(() -> sink = JUST.map(TO_RESULT));
+    }
+
+    @Test
+    public void mapOnRightAllocatesExactlyOneObject() {
+        assertOneObject(() -> sink = RIGHT.map(TO_RESULT));
+    }
+
+    private static void assertNoAllocation(Runnable operation) {
+        final double perOperation = allocatedPerOperation(operation);
+        Assert.assertTrue(perOperation + " bytes per operation", perOperation < NO_ALLOCATION);
+    }
+
+    private static void assertOneObject(Runnable operation) {
+        final double perOperation = allocatedPerOperation(operation);
+        Assert.assertTrue(perOperation + " bytes per operation", perOperation >= ONE_OBJECT_MIN && perOperation < ONE_OBJECT_MAX);
+    }
+
+    private static double allocatedPerOperation(Runnable operation) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            repeat(operation);
+        }
+        final long thread = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(thread);
+        repeat(operation);
+        final long after = threads.getThreadAllocatedBytes(thread);
+        return (double) (after - before) / ITERATIONS;
+    }
+
+    private static void repeat(Runnable operation) {
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            operation.run();
+        }
+    }
+}
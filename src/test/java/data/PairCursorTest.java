@@ -0,0 +1,87 @@
+package data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PairCursorTest {
+
+    private static final Object LEFT = new Object();
+    private static final Object RIGHT = new Object();
+
+    @Test
+    public void setReplacesTheLeftComponent() {
+        Assert.assertEquals(LEFT, new PairCursor<>().set(LEFT, RIGHT).left());
+    }
+
+    @Test
+    public void setReplacesTheRightComponent() {
+        Assert.assertEquals(RIGHT, new PairCursor<>().set(LEFT, RIGHT).right());
+    }
+
+    @Test
+    public void toPairReturnsAPairWithTheCurrentComponents() {
+        Assert.assertEquals(Pair.of(LEFT, RIGHT), new PairCursor<>().set(LEFT, RIGHT).toPair());
+    }
+
+    @Test
+    public void toPairIsNotAffectedByLaterUpdates() {
+        final PairCursor<Object, Object> cursor = new PairCursor<>().set(LEFT, RIGHT);
+        final Pair<Object, Object> pair = cursor.toPair();
+        cursor.set(null, null);
+        Assert.assertEquals(Pair.of(LEFT, RIGHT), pair);
+    }
+
+    @Test
+    public void zipYieldsTheComponentsPairwise() {
+        final Iterator<PairView<Integer, String>> zipped = PairCursor.zip(Arrays.asList(1, 2).iterator(), Arrays.asList("a", "b").iterator());
+        final List<Pair<Integer, String>> pairs = new ArrayList<>();
+        zipped.forEachRemaining(view -> pairs.add(view.toPair()));
+        Assert.assertEquals(Arrays.asList(Pair.of(1, "a"), Pair.of(2, "b")), pairs);
+    }
+
+    @Test
+    public void zipStopsAtTheShorterInput() {
+        final Iterator<PairView<Integer, String>> zipped = PairCursor.zip(Arrays.asList(1, 2, 3).iterator(), Arrays.asList("a").iterator());
+        zipped.next();
+        Assert.assertFalse(zipped.hasNext());
+    }
+
+    @Test
+    public void zipReusesTheSameView() {
+        final Iterator<PairView<Integer, String>> zipped = PairCursor.zip(Arrays.asList(1, 2).iterator(), Arrays.asList("a", "b").iterator());
+        Assert.assertSame(zipped.next(), zipped.next());
+    }
+
+    @Test
+    public void entriesYieldsTheKeysOnTheLeftAndTheValuesOnTheRight() {
+        final Map<Integer, String> map = new LinkedHashMap<>();
+        map.put(1, "a");
+        map.put(2, "b");
+        final List<Pair<Integer, String>> pairs = new ArrayList<>();
+        PairCursor.<Integer, String>entries(map).forEachRemaining(view -> pairs.add(view.toPair()));
+        Assert.assertEquals(Arrays.asList(Pair.of(1, "a"), Pair.of(2, "b")), pairs);
+    }
+
+    @Test
+    public void entriesSupportsRemoval() {
+        final Map<Integer, String> map = new LinkedHashMap<>();
+        map.put(1, "a");
+        final Iterator<PairView<Integer, String>> entries = PairCursor.entries(map);
+        entries.next();
+        entries.remove();
+        Assert.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void scanVisitsTheColumnsPairwise() {
+        final List<Pair<Integer, String>> pairs = new ArrayList<>();
+        PairCursor.scan(new Integer[]{1, 2}, new String[]{"a", "b"}, view -> pairs.add(view.toPair()));
+        Assert.assertEquals(Arrays.asList(Pair.of(1, "a"), Pair.of(2, "b")), pairs);
+    }
+}
@@ -0,0 +1,95 @@
+package data;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PairSortTest {
+
+    private static final int SIZE = 20000;
+
+    @Test
+    public void parallelSortOrdersLexicographically() {
+        final Pair<Integer, String>[] pairs = pairs(Pair.of(2, "a"), Pair.of(1, "b"), Pair.of(1, "a"));
+        PairSort.parallelSort(pairs, Comparator.naturalOrder(), Comparator.naturalOrder());
+        Assert.assertArrayEquals(pairs(Pair.of(1, "a"), Pair.of(1, "b"), Pair.of(2, "a")), pairs);
+    }
+
+    @Test
+    public void parallelSortByNaturalOrderMatchesASequentialSort() {
+        final Pair<Integer, Integer>[] pairs = randomPairs(new Random(1), 100);
+        final Pair<Integer, Integer>[] expected = pairs.clone();
+        Arrays.sort(expected, Pair.<Integer, Integer>naturalOrder());
+        PairSort.parallelSort(pairs);
+        Assert.assertArrayEquals(expected, pairs);
+    }
+
+    @Test
+    public void parallelSortOfALargeArrayIsStableAcrossTheParallelMerges() {
+        final Random random = new Random(4);
+        @SuppressWarnings("unchecked")
+        final Pair<Integer, Integer>[] pairs = new Pair[SIZE * 4];
+        for (int index = 0; index < pairs.length; index++) {
+            pairs[index] = Pair.of(random.nextInt(100), index);
+        }
+        final Pair<Integer, Integer>[] expected = pairs.clone();
+        Arrays.sort(expected, Comparator.comparing(Pair::left));
+        PairSort.parallelSort(pairs, Comparator.<Integer>naturalOrder(), (former, latter) -> 0);
+        Assert.assertArrayEquals(expected, pairs);
+    }
+
+    @Test
+    public void sortByIntsMatchesAComparisonSortIncludingNegativeKeys() {
+        final Pair<Integer, Integer>[] pairs = randomPairs(new Random(2), Integer.MAX_VALUE);
+        final Pair<Integer, Integer>[] expected = pairs.clone();
+        Arrays.sort(expected, Pair.<Integer, Integer>naturalOrder());
+        PairSort.sortByInts(pairs, Integer::intValue, Integer::intValue);
+        Assert.assertArrayEquals(expected, pairs);
+    }
+
+    @Test
+    public void sortByIntsIsStable() {
+        final Pair<Integer, String>[] pairs = pairs(Pair.of(1, "first"), Pair.of(0, "other"), Pair.of(1, "second"));
+        PairSort.sortByInts(pairs, Integer::intValue, value -> 0);
+        Assert.assertArrayEquals(pairs(Pair.of(0, "other"), Pair.of(1, "first"), Pair.of(1, "second")), pairs);
+    }
+
+    @Test
+    public void sortByLongsMatchesAComparisonSort() {
+        final Random random = new Random(3);
+        @SuppressWarnings("unchecked")
+        final Pair<Long, Long>[] pairs = new Pair[SIZE];
+        for (int index = 0; index < SIZE; index++) {
+            pairs[index] = Pair.of(random.nextLong() >> random.nextInt(64), (long) random.nextInt(10) - 5);
+        }
+        final Pair<Long, Long>[] expected = pairs.clone();
+        Arrays.sort(expected, Pair.<Long, Long>naturalOrder());
+        PairSort.sortByLongs(pairs, Long::longValue, Long::longValue);
+        Assert.assertArrayEquals(expected, pairs);
+    }
+
+    @Test
+    public void sortByLongsHandlesEmptyArrays() {
+        final Pair<Long, Long>[] pairs = pairs();
+        PairSort.sortByLongs(pairs, Long::longValue, Long::longValue);
+        Assert.assertEquals(0, pairs.length);
+    }
+
+    @SafeVarargs
+    private static <L, R> Pair<L, R>[] pairs(Pair<L, R>... pairs) {
+        return pairs;
+    }
+
+    private static Pair<Integer, Integer>[] randomPairs(Random random, int bound) {
+        @SuppressWarnings("unchecked")
+        final Pair<Integer, Integer>[] pairs = new Pair[SIZE];
+        for (int index = 0; index < SIZE; index++) {
+            final int left = bound == Integer.MAX_VALUE ? random.nextInt() : random.nextInt(bound);
+            final int right = bound == Integer.MAX_VALUE ? random.nextInt() : random.nextInt(bound);
+            pairs[index] = Pair.of(left, right);
+        }
+        return pairs;
+    }
+}
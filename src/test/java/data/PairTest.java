@@ -1,6 +1,21 @@
 package data;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -21,6 +36,11 @@ public class PairTest {
         Assert.assertEquals(RIGHT, pair.right());
     }
 
+    @Test
+    public void toPairReturnsThePairItself() {
+        Assert.assertSame(pair, pair.toPair());
+    }
+
     @Test
     public void ofLeftReturnsAPartiallyBuiltPairWhichContainsTheGivenElementOnTheLeft() {
         Assert.assertEquals(LEFT, Pair.ofLeft(LEFT).apply(RIGHT).left());
@@ -190,4 +210,178 @@ public class PairTest {
         final Pair other = Pair.of(null, null);
         Assert.assertTrue(one.equals(other));
     }
+
+    @Test
+    public void equalPairsHaveTheSameHashCode() {
+        Assert.assertEquals(Pair.of(1, 2).hashCode(), Pair.of(1, 2).hashCode());
+    }
+
+    @Test
+    public void flippedPairsHaveDifferentHashCodes() {
+        Assert.assertNotEquals(Pair.of(1, 2).hashCode(), Pair.of(2, 1).hashCode());
+    }
+
+    @Test
+    public void pairsOfEqualComponentsDoNotAllHashToTheSameValue() {
+        Assert.assertNotEquals(Pair.of(1, 1).hashCode(), Pair.of(2, 2).hashCode());
+    }
+
+    @Test
+    public void naturalOrderComparesTheLeftComponentsFirst() {
+        Assert.assertTrue(Pair.<Integer, Integer>naturalOrder().compare(Pair.of(1, 9), Pair.of(2, 0)) < 0);
+    }
+
+    @Test
+    public void naturalOrderComparesTheRightComponentsWhenTheLeftOnesAreEqual() {
+        Assert.assertTrue(Pair.<Integer, Integer>naturalOrder().compare(Pair.of(1, 1), Pair.of(1, 0)) > 0);
+    }
+
+    @Test
+    public void naturalOrderConsidersEqualPairsEqual() {
+        Assert.assertEquals(0, Pair.<Integer, Integer>naturalOrder().compare(Pair.of(1, 1), Pair.of(1, 1)));
+    }
+
+    @Test
+    public void comparatorUsesTheGivenComponentComparators() {
+        final Comparator<Pair<Integer, Integer>> comparator = Pair.comparator(Comparator.<Integer>reverseOrder(), Comparator.<Integer>naturalOrder());
+        Assert.assertTrue(comparator.compare(Pair.of(2, 0), Pair.of(1, 0)) < 0);
+    }
+
+    @Test
+    public void pairOfNullsIsShared() {
+        Assert.assertSame(Pair.of(null, null), Pair.of(null, null));
+    }
+
+    @Test
+    public void internOfTheEmptyPairReturnsTheSharedEmptyPair() {
+        Assert.assertSame(Pair.of(null, null), Pair.intern(Pair.hashed(null, null)));
+    }
+
+    @Test
+    public void internReturnsTheSameInstanceForEqualPairs() {
+        final Pair<String, String> interned = Pair.intern(Pair.of(new String("from"), new String("to")));
+        Assert.assertSame(interned, Pair.intern(Pair.of(new String("from"), new String("to"))));
+    }
+
+    @Test
+    public void hashedPairEqualsThePlainPairWithTheSameComponents() {
+        Assert.assertEquals(Pair.of(1, 2), Pair.hashed(1, 2));
+        Assert.assertEquals(Pair.hashed(1, 2), Pair.of(1, 2));
+    }
+
+    @Test
+    public void hashedPairHashesLikeThePlainPair() {
+        Assert.assertEquals(Pair.of(1, 2).hashCode(), Pair.hashed(1, 2).hashCode());
+    }
+
+    @Test
+    public void hashedPairsWithDifferentComponentsAreNotEqual() {
+        Assert.assertNotEquals(Pair.hashed(1, 2), Pair.hashed(2, 1));
+    }
+
+    @Test
+    public void hashedPairsWithNullComponentsAreEqual() {
+        Assert.assertEquals(Pair.hashed(null, null), Pair.hashed(null, null));
+    }
+
+    @Test
+    public void hashedPairDoesNotRehashItsComponents() {
+        final AtomicInteger hashes = new AtomicInteger();
+        final Object component = new Object() {
+            @Override
+            public int hashCode() {
+                hashes.incrementAndGet();
+                return 42;
+            }
+        };
+        final Pair<Object, Object> pair = Pair.hashed(component, component);
+        pair.hashCode();
+        pair.hashCode();
+        Assert.assertEquals(2, hashes.get());
+    }
+
+    @Test
+    public void nestedHashedPairsWithDifferentHashesAreNotEqualWithoutComparingComponents() {
+        Assert.assertNotEquals(Pair.hashed(Pair.hashed(new Unequal(), 1), 0), Pair.hashed(Pair.hashed(new Unequal(), 2), 0));
+    }
+
+    private static final class Unequal {
+
+        @Override
+        public boolean equals(Object object) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public int hashCode() {
+            return 7;
+        }
+    }
+
+    @Test
+    public void ofEntryCopiesTheKeyAndValue() {
+        Assert.assertEquals(Pair.of("key", 1), Pair.of(new AbstractMap.SimpleEntry<>("key", 1)));
+    }
+
+    @Test
+    public void asEntryExposesTheComponentsAsKeyAndValue() {
+        final Map.Entry<String, Integer> entry = Pair.of("key", 1).asEntry();
+        Assert.assertEquals("key", entry.getKey());
+        Assert.assertEquals(Integer.valueOf(1), entry.getValue());
+    }
+
+    @Test
+    public void asEntryFollowsTheMapEntryContract() {
+        final Map.Entry<String, Integer> expected = new AbstractMap.SimpleEntry<>("key", 1);
+        final Map.Entry<String, Integer> entry = Pair.of("key", 1).asEntry();
+        Assert.assertEquals(expected, entry);
+        Assert.assertEquals(entry, expected);
+        Assert.assertEquals(expected.hashCode(), entry.hashCode());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void asEntryIsReadOnly() {
+        Pair.of("key", 1).asEntry().setValue(2);
+    }
+
+    @Test
+    public void forEachEntryVisitsEveryEntryOfTheMap() {
+        final Map<String, Integer> map = new TreeMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        final List<Pair<String, Integer>> visited = new ArrayList<>();
+        Pair.<String, Integer>forEachEntry(map, view -> visited.add(view.toPair()));
+        Assert.assertEquals(Arrays.asList(Pair.of("a", 1), Pair.of("b", 2)), visited);
+    }
+
+    @Test
+    public void forEachEntryReusesOneView() {
+        final Map<String, Integer> map = new TreeMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        final Set<Object> views = Collections.newSetFromMap(new IdentityHashMap<>());
+        Pair.<String, Integer>forEachEntry(map, views::add);
+        Assert.assertEquals(1, views.size());
+    }
+
+    @Test
+    public void toHashMapCollectsPairsIntoAMap() {
+        final Map<String, Integer> map = Stream.of(Pair.of("a", 1), Pair.of("b", 2)).collect(Pair.toHashMap(2));
+        final Map<String, Integer> expected = new HashMap<>();
+        expected.put("a", 1);
+        expected.put("b", 2);
+        Assert.assertEquals(expected, map);
+    }
+
+    @Test
+    public void toHashMapKeepsTheLastValueOfARepeatedKey() {
+        Assert.assertEquals(Integer.valueOf(2), Stream.of(Pair.of("a", 1), Pair.of("a", 2)).collect(Pair.<String, Integer>toHashMap()).get("a"));
+    }
+
+    @Test
+    public void parallelToHashMapMergesThePartialMaps() {
+        final Map<Integer, Integer> map = IntStream.range(0, 10000).parallel().mapToObj(value -> Pair.of(value, value)).collect(Pair.toHashMap(10000));
+        Assert.assertEquals(10000, map.size());
+        Assert.assertEquals(Integer.valueOf(9999), map.get(9999));
+    }
 }
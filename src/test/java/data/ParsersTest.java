@@ -0,0 +1,124 @@
+package data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParsersTest {
+
+    @Test
+    public void parseIntReturnsJustTheValue() {
+        Assert.assertEquals(Maybe.just(42), Parsers.parseInt("42"));
+        Assert.assertEquals(Maybe.just(-42), Parsers.parseInt("-42"));
+        Assert.assertEquals(Maybe.just(42), Parsers.parseInt("+42"));
+    }
+
+    @Test
+    public void parseIntAcceptsTheExtremeValues() {
+        Assert.assertEquals(Maybe.just(Integer.MAX_VALUE), Parsers.parseInt("2147483647"));
+        Assert.assertEquals(Maybe.just(Integer.MIN_VALUE), Parsers.parseInt("-2147483648"));
+    }
+
+    @Test
+    public void parseIntReturnsNothingOnOverflow() {
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseInt("2147483648"));
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseInt("-2147483649"));
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseInt("99999999999"));
+    }
+
+    @Test
+    public void parseIntReturnsNothingOnMalformedInput() {
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseInt(""));
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseInt("-"));
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseInt("4x2"));
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseInt(" 42"));
+    }
+
+    @Test
+    public void parseIntReadsSlicesOfCharAndByteArrays() {
+        Assert.assertEquals(Maybe.just(42), Parsers.parseInt("x42y".toCharArray(), 1, 2));
+        Assert.assertEquals(Maybe.just(42), Parsers.parseInt("x42y".getBytes(StandardCharsets.US_ASCII), 1, 2));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void sliceOutsideTheArrayIsRejected() {
+        Parsers.parseInt(new char[2], 1, 2);
+    }
+
+    @Test
+    public void parseLongAcceptsTheExtremeValues() {
+        Assert.assertEquals(Maybe.just(Long.MAX_VALUE), Parsers.parseLong("9223372036854775807"));
+        Assert.assertEquals(Maybe.just(Long.MIN_VALUE), Parsers.parseLong("-9223372036854775808"));
+    }
+
+    @Test
+    public void parseLongReturnsNothingOnOverflowAndMalformedInput() {
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseLong("9223372036854775808"));
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseLong("12a"));
+    }
+
+    @Test
+    public void parseDoubleAgreesWithDoubleParseDouble() {
+        for (String text : new String[]{"0", "-0", "1.5", "-2.25", ".5", "3.", "1e10", "1E-5", "+7.0e+2", "123456789012345678901234", "0.1", "4.9e-324", "1e400", "2.2250738585072014E-308", "NaN", "-Infinity"}) {
+            Assert.assertEquals(text, Maybe.just(Double.parseDouble(text)), Parsers.parseDouble(text));
+        }
+    }
+
+    @Test
+    public void parseDoubleAgreesWithDoubleParseDoubleOnRandomValues() {
+        final Random random = new Random(42);
+        for (int round = 0; round < 10000; round++) {
+            final String text = Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+            Assert.assertEquals(text, Maybe.just(Double.parseDouble(text)), Parsers.parseDouble(text));
+        }
+    }
+
+    @Test
+    public void parseDoubleReturnsNothingOnMalformedInput() {
+        for (String text : new String[]{"", "-", ".", "1e", "1e+", "1.2.3", "0x10", "1d", " 1", "Inf"}) {
+            Assert.assertEquals(text, Maybe.nothing(), Parsers.parseDouble(text));
+        }
+    }
+
+    @Test
+    public void parseBooleanIgnoresCase() {
+        Assert.assertEquals(Maybe.just(true), Parsers.parseBoolean("TRUE"));
+        Assert.assertEquals(Maybe.just(false), Parsers.parseBoolean("False"));
+        Assert.assertEquals(Maybe.just(true), Parsers.parseBoolean("[true]".getBytes(StandardCharsets.US_ASCII), 1, 4));
+    }
+
+    @Test
+    public void parseBooleanReturnsNothingForOtherWords() {
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseBoolean("yes"));
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseBoolean("truth"));
+    }
+
+    @Test
+    public void parseUuidReturnsJustTheUuid() {
+        final UUID uuid = UUID.randomUUID();
+        Assert.assertEquals(Maybe.just(uuid), Parsers.parseUuid(uuid.toString()));
+        Assert.assertEquals(Maybe.just(uuid), Parsers.parseUuid(uuid.toString().toUpperCase().toCharArray(), 0, 36));
+    }
+
+    @Test
+    public void parseUuidReturnsNothingOnMalformedInput() {
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseUuid("123e4567-e89b-12d3-a456-42661417400"));
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseUuid("123e4567+e89b-12d3-a456-426614174000"));
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseUuid("123e4567-e89b-12d3-a456-42661417400g"));
+    }
+
+    @Test
+    public void parseEnumReturnsJustTheConstantWithTheName() {
+        Assert.assertEquals(Maybe.just(TimeUnit.SECONDS), Parsers.parseEnum(TimeUnit.class, "SECONDS"));
+        Assert.assertEquals(Maybe.just(TimeUnit.DAYS), Parsers.parseEnum(TimeUnit.class, "(DAYS)".getBytes(StandardCharsets.US_ASCII), 1, 4));
+    }
+
+    @Test
+    public void parseEnumReturnsNothingForUnknownNames() {
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseEnum(TimeUnit.class, "seconds"));
+        Assert.assertEquals(Maybe.nothing(), Parsers.parseEnum(TimeUnit.class, ""));
+    }
+}